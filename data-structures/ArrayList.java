@@ -1,6 +1,15 @@
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Resizable array implementation of the List interface. Permits all elements,
@@ -16,28 +25,69 @@ public class ArrayList<E> implements Iterable<E>
     private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8; // max capacity
     private static final int DEFAULT_LENGTH_ARRAY = 10; // default capacity
 
+    // Growth Policies
+
+    /**
+     * Doubles the capacity on each growth. This is the default policy.
+     */
+    public static final GrowthPolicy DOUBLING =
+        (currCapacity, minCapacity) -> clampCapacity(currCapacity * 2L);
+
+    /**
+     * Grows the capacity by half of its current value, trading more frequent
+     * copies for up to 33% less unused space than doubling.
+     */
+    public static final GrowthPolicy ONE_AND_A_HALF =
+        (currCapacity, minCapacity) ->
+            clampCapacity(currCapacity + (long) (currCapacity >> 1));
+
     // Internal State
 
     private E[] _values; // backing array
     private int _size; // size of claimed space in the array
+    private int _modCount; // modification count
+    private boolean _shared; // backing array is shared with a snapshot
+    private final GrowthPolicy _growthPolicy; // picks the next capacity
+    private int _growthCount; // number of times the array has grown
+    private long _elementsCopied; // slots copied while growing
 
 
     /**
-     * Constructor that creates an ArrayList with the given initial capacity.
+     * Constructor that creates an ArrayList with the given initial capacity
+     * and growth policy.
      * 
      * @param initialCapacity the initial capacity of the ArrayList
+     * @param growthPolicy the policy that picks the capacity when growing
      * @throws IllegalArgumentException {@inheritDoc}
      */
     @SuppressWarnings("unchecked")
-    public ArrayList(int initialCapacity)
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy)
     {
         if (initialCapacity < 0)
         {
             throw new IllegalArgumentException("Capacity needs to be at least 1.");
         }
 
+        if (growthPolicy == null)
+        {
+            throw new IllegalArgumentException("Growth policy is required.");
+        }
+
         this._values = (E[]) new Object[initialCapacity];
         this._size = 0;
+        this._growthPolicy = growthPolicy;
+    }
+
+
+    /**
+     * Constructor that creates an ArrayList with the given initial capacity.
+     * 
+     * @param initialCapacity the initial capacity of the ArrayList
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    public ArrayList(int initialCapacity)
+    {
+        this(initialCapacity, DOUBLING);
     }
 
 
@@ -61,6 +111,68 @@ public class ArrayList<E> implements Iterable<E>
     }
 
 
+    /**
+     * Returns the number of elements the backing array can hold before it
+     * needs to grow.
+     * 
+     * @return the capacity of the ArrayList
+     */
+    public int capacity()
+    {
+        return currCapacity();
+    }
+
+
+    /**
+     * Returns the number of times the backing array has grown.
+     * 
+     * @return the number of times the backing array has grown
+     */
+    public int growthCount()
+    {
+        return this._growthCount;
+    }
+
+
+    /**
+     * Returns the number of array slots copied while growing. Multiply by
+     * the reference size of the JVM (4 bytes with compressed oops, otherwise
+     * 8) to get the number of bytes copied.
+     * 
+     * @return the number of array slots copied while growing
+     */
+    public long elementsCopied()
+    {
+        return this._elementsCopied;
+    }
+
+
+    /**
+     * Grows the backing array, if necessary, so it can hold at least the
+     * given number of elements without growing again.
+     * 
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        checkCurrentCapacity(minCapacity);
+    }
+
+
+    /**
+     * Shrinks the backing array to the size of the ArrayList, releasing any
+     * unused capacity.
+     */
+    public void trimToSize()
+    {
+        if (size() < currCapacity())
+        {
+            this._values = Arrays.copyOf(getValues(), size());
+            this._shared = false;
+        }
+    }
+
+
     /**
      * Returns true if the ArrayList is empty, false otherwise.
      * 
@@ -88,31 +200,76 @@ public class ArrayList<E> implements Iterable<E>
 
 
     /**
-     * Returns the index of the specified element
+     * Returns the index of the first occurrence of the specified element,
+     * stopping as soon as it is found.
      * 
      * @param element the element to check for
      * @return the index of the element or -1 if the element isn't found
      */
     public int indexOf(E element)
     {
+        E[] values = getValues();
+        int size = this.size();
+        int index = -1;
+
+        if (element == null)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                if (values[i] == null)
+                {
+                    index = i;
+                    break;
+                }
+            }
+        } 
+        else
+        {
+            for (int i = 0; i < size; i++)
+            {
+                if (element.equals(values[i]))
+                {
+                    index = i;
+                    break;
+                }
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns the index of the last occurrence of the specified element,
+     * scanning backwards from the end of the ArrayList.
+     * 
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public int lastIndexOf(E element)
+    {
+        E[] values = getValues();
         int index = -1;
 
         if (element == null)
         {
-            for (int i = 0; i < this.size(); i++){
-                if (getValues()[i] == null)
+            for (int i = this.size() - 1; i >= 0; i--)
+            {
+                if (values[i] == null)
                 {
                     index = i;
+                    break;
                 }
             }
         } 
         else
         {
-            for (int i = 0; i < this.size(); i++)
+            for (int i = this.size() - 1; i >= 0; i--)
             {
-                if (element.equals(getValues()[i]))
+                if (element.equals(values[i]))
                 {
                     index = i;
+                    break;
                 }
             }
         }
@@ -129,6 +286,36 @@ public class ArrayList<E> implements Iterable<E>
      * @return true if the ArrayList contains the specified element,
      *         false otherwise
      */
+    public boolean contains(E element)
+    {
+        return indexOf(element) >= 0;
+    }
+
+
+    /**
+     * Searches the ArrayList for the specified element using binary search.
+     * The ArrayList must already be sorted by the given comparator, otherwise
+     * the result is undefined.
+     * 
+     * @param element the element to search for
+     * @param comparator the comparator the ArrayList is sorted by, or null
+     *        to use the elements' natural ordering
+     * @return the index of the element if found, otherwise
+     *         (-(insertion point) - 1)
+     * @see Arrays#binarySearch(Object[], int, int, Object, java.util.Comparator)
+     */
+    public int binarySearch(E element, Comparator<? super E> comparator)
+    {
+        return Arrays.binarySearch(getValues(), 0, size(), element, comparator);
+    }
+
+
+    /**
+     * Appends the specified element to the end of the ArrayList.
+     * 
+     * @param element the element to add
+     * @return true if the element was added, false otherwise
+     */
     public boolean add(E element)
     {
         boolean added = false;
@@ -137,6 +324,7 @@ public class ArrayList<E> implements Iterable<E>
         checkCapacityNeeded(this._size + 1);
 
         getValues()[this._size++] = element;
+        this._modCount++;
 
         if (size() > oldSize)
         {
@@ -159,12 +347,14 @@ public class ArrayList<E> implements Iterable<E>
     {
         checkIndex(index);
         checkCapacityNeeded(this._size + 1);
+        unshareValues();
 
         System.arraycopy(getValues(), index, getValues(), index + 1,
                          size() - index);
 
         getValues()[index] = element;
         this._size++;
+        this._modCount++;
     }
 
 
@@ -182,26 +372,166 @@ public class ArrayList<E> implements Iterable<E>
 
         E remElement = get(index);
 
-        for (int i = index; i < this.size() - 1; i++)
-        {
-            getValues()[i] = getValues()[i + 1];
-        }
+        unshareValues();
+        System.arraycopy(getValues(), index + 1, getValues(), index,
+                         size() - index - 1);
 
         getValues()[this.size() - 1] = null;
 
         this._size--;
+        this._modCount++;
 
         return remElement;
     }
 
 
+    /**
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive,
+     * shifting the remaining elements down with a single array copy.
+     *
+     * @param fromIndex the index of the first element to remove
+     * @param toIndex the index after the last element to remove
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        checkBounds(fromIndex, toIndex, this.size());
+
+        unshareValues();
+        System.arraycopy(getValues(), toIndex, getValues(), fromIndex,
+                         size() - toIndex);
+
+        truncate(size() - (toIndex - fromIndex));
+    }
+
+
+    /**
+     * Removes every element that satisfies the given predicate. The
+     * predicate is run over every element before any is moved, so if it
+     * throws the ArrayList is left unchanged; the remaining elements are
+     * then compacted in a single pass.
+     *
+     * @param filter the predicate that returns true for elements to remove
+     * @return true if any elements were removed
+     * @throws ConcurrentModificationException if the predicate modifies
+     *         the ArrayList
+     */
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        E[] values = getValues();
+        int size = this.size();
+        int expectedModCount = this._modCount;
+        BitSet doomed = new BitSet(size);
+
+        for (int i = 0; i < size && expectedModCount == _modCount; i++)
+        {
+            if (filter.test(values[i]))
+            {
+                doomed.set(i);
+            }
+        }
+
+        if (expectedModCount != _modCount)
+        {
+            throw new ConcurrentModificationException();
+        }
+
+        if (doomed.isEmpty())
+        {
+            return false;
+        }
+
+        unshareValues();
+        values = getValues();
+
+        // slide every kept element down over the removed ones
+        int kept = doomed.nextSetBit(0);
+
+        for (int i = kept; i < size; i++)
+        {
+            if (!doomed.get(i))
+            {
+                values[kept++] = values[i];
+            }
+        }
+
+        truncate(kept);
+
+        return true;
+    }
+
+
+    /**
+     * Retains only the elements that are contained in the given collection.
+     * The remaining elements are compacted in a single pass, and if
+     * contains throws the ArrayList is left unchanged.
+     *
+     * @param elements the elements to keep
+     * @return true if any elements were removed
+     * @throws ConcurrentModificationException if contains modifies the
+     *         ArrayList
+     */
+    public boolean retainAll(Collection<?> elements)
+    {
+        return removeIf(value -> !elements.contains(value));
+    }
+
+
+    /**
+     * Appends the elements of other from fromIndex, inclusive, to toIndex,
+     * exclusive, with a single array copy.
+     * 
+     * @param other the ArrayList to copy elements from
+     * @param fromIndex the index of the first element to copy
+     * @param toIndex the index after the last element to copy
+     * @return true if the ArrayList changed as a result of the call
+     * 
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public boolean addAll(ArrayList<? extends E> other, int fromIndex,
+                          int toIndex)
+    {
+        checkBounds(fromIndex, toIndex, other.size());
+
+        int count = toIndex - fromIndex;
+
+        // an empty range changes nothing, so live iterators stay valid
+        if (count > 0)
+        {
+            checkCapacityNeeded(this._size + count);
+
+            // other's array is read after growing in case other is this list
+            System.arraycopy(other.getValues(), fromIndex, getValues(),
+                             this._size, count);
+
+            this._size += count;
+            this._modCount++;
+        }
+
+        return count > 0;
+    }
+
+
     /**
      * Clears the backing array and sets the size to 0
      */
+    @SuppressWarnings("unchecked")
     public void clear()
     {
-        Arrays.setAll(getValues(), i -> null);
+        if (this._shared)
+        {
+            // leave the snapshot's array alone and start over with a new one
+            this._values = (E[]) new Object[currCapacity()];
+            this._shared = false;
+        }
+        else
+        {
+            Arrays.setAll(getValues(), i -> null);
+        }
+
         this._size = 0;
+        this._modCount++;
     }
 
 
@@ -217,15 +547,70 @@ public class ArrayList<E> implements Iterable<E>
      */
     public E set(int index, E element)
     {
+        checkRange(index);
+
         E prevElement = getValues()[index];
 
-        checkRange(index);
+        unshareValues();
         getValues()[index] = element;
 
         return prevElement;
     }
 
 
+    /**
+     * Returns a copy of the elements in the ArrayList.
+     * 
+     * @return a new array holding the elements in order
+     */
+    public Object[] toArray()
+    {
+        return toArray(0, size());
+    }
+
+
+    /**
+     * Returns a copy of the elements from fromIndex, inclusive, to toIndex,
+     * exclusive, made with a single array copy.
+     * 
+     * @param fromIndex the index of the first element to copy
+     * @param toIndex the index after the last element to copy
+     * @return a new array holding the elements in order
+     * 
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public Object[] toArray(int fromIndex, int toIndex)
+    {
+        checkBounds(fromIndex, toIndex, this.size());
+
+        Object[] copy = new Object[toIndex - fromIndex];
+
+        System.arraycopy(getValues(), fromIndex, copy, 0, copy.length);
+
+        return copy;
+    }
+
+
+    /**
+     * Returns a view of the elements from fromIndex, inclusive, to toIndex,
+     * exclusive. The view shares the backing array, so creating it copies
+     * nothing, and set on the view writes through to the ArrayList. Any
+     * structural change to the ArrayList invalidates the view.
+     * 
+     * @param fromIndex the index of the first element in the view
+     * @param toIndex the index after the last element in the view
+     * @return a view of the given range
+     * 
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @see SubList
+     */
+    public SubList subList(int fromIndex, int toIndex)
+    {
+        checkBounds(fromIndex, toIndex, this.size());
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+
     /**
      * Returns the backing array of the ArrayList.
      * 
@@ -237,6 +622,39 @@ public class ArrayList<E> implements Iterable<E>
     }
 
 
+    /**
+     * Shrinks the size to newSize and nulls out the slots past it, so removed
+     * elements can be garbage collected.
+     *
+     * @param newSize the new size of the ArrayList
+     */
+    private void truncate(int newSize)
+    {
+        if (newSize < size())
+        {
+            unshareValues();
+            Arrays.fill(getValues(), newSize, size(), null);
+            this._size = newSize;
+            this._modCount++;
+        }
+    }
+
+
+    /**
+     * Gives the ArrayList its own copy of the backing array if the current
+     * one is shared with a snapshot iterator. Must be called before any
+     * write to a slot below the current size.
+     */
+    private void unshareValues()
+    {
+        if (this._shared)
+        {
+            this._values = Arrays.copyOf(getValues(), currCapacity());
+            this._shared = false;
+        }
+    }
+
+
     /**
      * Returns the capacity of the ArrayList.
      * 
@@ -296,6 +714,24 @@ public class ArrayList<E> implements Iterable<E>
     }
 
 
+    /**
+     * Checks fromIndex and toIndex describe a range within a list of the
+     * given size
+     * 
+     * @param fromIndex the index of the first element in the range
+     * @param toIndex the index after the last element in the range
+     * @param size the size of the list the range is in
+     */
+    private static void checkBounds(int fromIndex, int toIndex, int size)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid range: %d to %d", fromIndex, toIndex));
+        }
+    }
+
+
     /**
      * Grows capacity if necessary for the array
      *
@@ -304,7 +740,7 @@ public class ArrayList<E> implements Iterable<E>
     private void grow(int minCapacity)
     {
         int currCapacity = currCapacity();
-        int newCapacity = currCapacity * 2;
+        int newCapacity = _growthPolicy.newCapacity(currCapacity, minCapacity);
 
         if (newCapacity - minCapacity < 0)
         {
@@ -317,6 +753,9 @@ public class ArrayList<E> implements Iterable<E>
         }
 
         this._values = Arrays.copyOf(getValues(), newCapacity);
+        this._shared = false;
+        this._growthCount++;
+        this._elementsCopied += currCapacity;
     }
 
 
@@ -338,13 +777,28 @@ public class ArrayList<E> implements Iterable<E>
 
 
     /**
-     * Ensures the array has enough capacity
+     * Clamps a computed capacity to the range of an int. Anything past
+     * MAX_ELEMENTS is dealt with by grow.
+     * 
+     * @param capacity the computed capacity
+     * @return the capacity, or Integer.MAX_VALUE if it overflowed
+     */
+    private static int clampCapacity(long capacity)
+    {
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Ensures the array has enough capacity. An array with no capacity at
+     * all is given at least the default capacity, but an explicitly sized
+     * array is only grown once it is full.
      * 
      * @param minCapacity the desired minimum capacity
      */
     private void checkCapacityNeeded(int minCapacity)
     {
-        if (size() == 0)
+        if (currCapacity() == 0)
         {
             minCapacity = Math.max(DEFAULT_LENGTH_ARRAY, minCapacity);
         }
@@ -368,24 +822,161 @@ public class ArrayList<E> implements Iterable<E>
 
 
     /**
-     * Returns new ArrayListIterator
+     * Returns a growth policy that adds a fixed number of slots on each
+     * growth, for lists whose growth should stay predictable.
      * 
-     * @return new ArrayListIterator
-     * @see ArrayListIterator
-     * @see Iterator
+     * @param increment the number of slots to add
+     * @return a fixed increment growth policy
+     * @throws IllegalArgumentException if increment is not positive
      */
-    @Override
-    public Iterator<E> iterator()
+    public static GrowthPolicy fixedIncrement(int increment)
     {
-        return new ArrayListIterator();
+        if (increment <= 0)
+        {
+            throw new IllegalArgumentException("Increment must be positive.");
+        }
+
+        return (currCapacity, minCapacity) ->
+            clampCapacity((long) currCapacity + increment);
     }
 
 
     /**
-     * ArrayListIterator implementing Iterator interface
-     * 
-     * @param _index the index of the element to iterate
-     * @author hzhu20@georgefox.edu
+     * Returns a growth policy that rounds the capacity up to the next power
+     * of two until it reaches chunkSize, then to the next multiple of
+     * chunkSize. Small lists grow like DOUBLING while large lists grow one
+     * chunk at a time.
+     * 
+     * @param chunkSize the largest capacity step, must be a power of two
+     * @return a chunked power of two growth policy
+     * @throws IllegalArgumentException if chunkSize is not a power of two
+     */
+    public static GrowthPolicy chunkedPowerOfTwo(int chunkSize)
+    {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1)
+        {
+            throw new IllegalArgumentException(
+                "Chunk size must be a power of two.");
+        }
+
+        return (currCapacity, minCapacity) ->
+        {
+            long capacity;
+
+            if (minCapacity <= chunkSize)
+            {
+                capacity = Long.highestOneBit(Math.max(1, minCapacity - 1)) << 1;
+            }
+            else
+            {
+                capacity = ((long) minCapacity + chunkSize - 1) & -chunkSize;
+            }
+
+            return clampCapacity(capacity);
+        };
+    }
+
+
+    /**
+     * Returns new ArrayListIterator
+     * 
+     * @return new ArrayListIterator
+     * @see ArrayListIterator
+     * @see Iterator
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new ArrayListIterator();
+    }
+
+
+    /**
+     * Returns new SnapshotIterator over the elements as they are right now.
+     * The snapshot shares the backing array until the ArrayList is next
+     * written to, at which point the ArrayList copies the array for itself.
+     * The snapshot never throws ConcurrentModificationException.
+     * 
+     * @return new SnapshotIterator
+     * @see SnapshotIterator
+     */
+    public Iterator<E> snapshotIterator()
+    {
+        this._shared = true;
+        return new SnapshotIterator(getValues(), size());
+    }
+
+
+    /**
+     * Performs the given action on each element, reading the backing array
+     * directly instead of going through an iterator.
+     * 
+     * @param action the action to perform on each element
+     * @throws ConcurrentModificationException {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super E> action)
+    {
+        E[] values = getValues();
+        int size = this.size();
+        int expectedModCount = this._modCount;
+
+        for (int i = 0; i < size && expectedModCount == _modCount; i++)
+        {
+            action.accept(values[i]);
+        }
+
+        if (expectedModCount != _modCount)
+        {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+
+    /**
+     * Returns new ArrayListSpliterator over the whole ArrayList. The
+     * spliterator is late-binding: it covers the elements present when it
+     * is first traversed, split or sized, not when it is created.
+     * 
+     * @return new ArrayListSpliterator
+     * @see ArrayListSpliterator
+     * @see Spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator()
+    {
+        return new ArrayListSpliterator(0, -1, _modCount);
+    }
+
+
+    /**
+     * Returns a sequential Stream over the elements of the ArrayList.
+     * 
+     * @return a sequential Stream over the elements
+     */
+    public Stream<E> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+
+    /**
+     * Returns a parallel Stream over the elements of the ArrayList. The
+     * work is split by index range, so no copy of the list is made.
+     * 
+     * @return a parallel Stream over the elements
+     */
+    public Stream<E> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+
+    /**
+     * ArrayListIterator implementing Iterator interface
+     * 
+     * @param _index the index of the element to iterate
+     * @author hzhu20@georgefox.edu
      * 
      * @see Iterator
      * @see ArrayListIterator
@@ -395,6 +986,7 @@ public class ArrayList<E> implements Iterable<E>
     {
         // current index points to the next element to be returned
         private int _index;
+        private int _expectedModCount; // tracking list changes
 
 
         /**
@@ -405,6 +997,7 @@ public class ArrayList<E> implements Iterable<E>
         public ArrayListIterator()
         {
             this._index = 0;
+            this._expectedModCount = _modCount;
         }
 
         
@@ -413,10 +1006,16 @@ public class ArrayList<E> implements Iterable<E>
          * otherwise.
          * 
          * @return true if the ArrayListIterator has a next element, false
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public boolean hasNext()
         {
+            if (_expectedModCount != _modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+
             return _index < size();
         }
 
@@ -426,6 +1025,7 @@ public class ArrayList<E> implements Iterable<E>
          * 
          * @return the next element in the ArrayListIterator
          * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
          * 
          * @see ArrayListIterator
          */
@@ -440,4 +1040,491 @@ public class ArrayList<E> implements Iterable<E>
             return _values[_index++];
         }
     }
+
+
+    /**
+     * ArrayListSpliterator covering the index range [_index, _fence) of the
+     * backing array. Splitting hands the lower half of the range to a new
+     * ArrayListSpliterator, so the sizes of both halves are known exactly.
+     * A fence of -1 is bound to the size of the list, along with the
+     * modification count, the first time the spliterator is used.
+     * 
+     * @author hzhu20@georgefox.edu
+     * 
+     * @see Spliterator
+     * @see ArrayList
+     */
+    private class ArrayListSpliterator implements Spliterator<E>
+    {
+        private int _index; // index of the next element to be returned
+        private int _fence; // index after the last element, -1 until bound
+        private int _expectedModCount; // tracking list changes
+
+
+        /**
+         * Constructs an ArrayListSpliterator over the given index range
+         * 
+         * @param origin the index of the first element covered
+         * @param fence the index after the last element covered, or -1 to
+         *              bind it to the size of the list on first use
+         * @param expectedModCount the modification count the range is
+         *                         valid for
+         */
+        public ArrayListSpliterator(int origin, int fence,
+                                    int expectedModCount)
+        {
+            this._index = origin;
+            this._fence = fence;
+            this._expectedModCount = expectedModCount;
+        }
+
+
+        /**
+         * Performs the action on the next element, if there is one.
+         * 
+         * @param action the action to perform
+         * @return true if an element was consumed, false otherwise
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action)
+        {
+            boolean advanced = false;
+
+            if (_index < getFence())
+            {
+                action.accept(_values[_index++]);
+                advanced = true;
+
+                checkForComodification();
+            }
+
+            return advanced;
+        }
+
+
+        /**
+         * Performs the action on every remaining element.
+         * 
+         * @param action the action to perform
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super E> action)
+        {
+            E[] values = _values;
+            int fence = getFence();
+
+            for (int i = _index; i < fence; i++)
+            {
+                action.accept(values[i]);
+            }
+
+            _index = fence;
+
+            checkForComodification();
+        }
+
+
+        /**
+         * Splits off the lower half of the remaining range.
+         * 
+         * @return a spliterator over the lower half, or null if the range
+         *         is too small to split
+         */
+        @Override
+        public Spliterator<E> trySplit()
+        {
+            int lo = _index;
+            int mid = (lo + getFence()) >>> 1;
+            Spliterator<E> split = null;
+
+            if (lo < mid)
+            {
+                _index = mid;
+                // the child is only valid for the same list as its parent
+                split = new ArrayListSpliterator(lo, mid, _expectedModCount);
+            }
+
+            return split;
+        }
+
+
+        /**
+         * Returns the number of elements left in the range.
+         * 
+         * @return the number of elements left in the range
+         */
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - _index;
+        }
+
+
+        /**
+         * Returns the characteristics of the ArrayListSpliterator.
+         * 
+         * @return ORDERED, SIZED and SUBSIZED
+         */
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED
+                   | Spliterator.SUBSIZED;
+        }
+
+
+        /**
+         * Returns the fence, first binding it to the size of the list and
+         * recording the modification count if it is not yet bound.
+         * 
+         * @return the index after the last element covered
+         */
+        private int getFence()
+        {
+            if (_fence < 0)
+            {
+                _fence = size();
+                _expectedModCount = _modCount;
+            }
+
+            return _fence;
+        }
+
+
+        /**
+         * Checks the ArrayList has not been modified since this
+         * ArrayListSpliterator was bound.
+         * 
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        private void checkForComodification()
+        {
+            if (_expectedModCount != _modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * SnapshotIterator over a fixed array and size captured when it was
+     * created. The ArrayList copies its backing array before writing to it
+     * while a snapshot is outstanding, so the snapshot's view never changes.
+     * 
+     * @author hzhu20@georgefox.edu
+     * 
+     * @see ArrayList#snapshotIterator()
+     * @see Iterator
+     */
+    private class SnapshotIterator implements Iterator<E>
+    {
+        private final E[] _snapshot; // array shared with the ArrayList
+        private final int _snapshotSize; // size when the snapshot was taken
+        private int _index; // index of the next element to be returned
+
+
+        /**
+         * Constructs a SnapshotIterator over the given array and size
+         * 
+         * @param snapshot the backing array at the time of the snapshot
+         * @param snapshotSize the size at the time of the snapshot
+         */
+        public SnapshotIterator(E[] snapshot, int snapshotSize)
+        {
+            this._snapshot = snapshot;
+            this._snapshotSize = snapshotSize;
+            this._index = 0;
+        }
+
+
+        /**
+         * Returns true if the SnapshotIterator has a next element, false
+         * otherwise.
+         * 
+         * @return true if the SnapshotIterator has a next element, false
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return _index < _snapshotSize;
+        }
+
+
+        /**
+         * Returns the next element in the SnapshotIterator.
+         * 
+         * @return the next element in the SnapshotIterator
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        @Override
+        public E next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            return _snapshot[_index++];
+        }
+    }
+
+
+    /**
+     * SubList is a window onto a range of the ArrayList's backing array,
+     * described by an offset and a length. Reads and writes go straight to
+     * the backing array, and a structural change to the ArrayList after the
+     * SubList was created causes a ConcurrentModificationException.
+     * 
+     * @author hzhu20@georgefox.edu
+     * 
+     * @see ArrayList#subList(int, int)
+     */
+    public class SubList implements Iterable<E>
+    {
+        private final int _offset; // index of the first element in the list
+        private final int _length; // number of elements in the view
+        private final int _expectedModCount; // tracking list changes
+
+
+        /**
+         * Constructs a SubList over the given range
+         * 
+         * @param offset the index of the first element in the view
+         * @param length the number of elements in the view
+         */
+        private SubList(int offset, int length)
+        {
+            this._offset = offset;
+            this._length = length;
+            this._expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns the size of the SubList.
+         * 
+         * @return the size of the SubList
+         */
+        public int size()
+        {
+            return this._length;
+        }
+
+
+        /**
+         * Returns true if the SubList is empty, false otherwise.
+         * 
+         * @return true if the SubList is empty, false otherwise
+         */
+        public boolean isEmpty()
+        {
+            return this._length == 0;
+        }
+
+
+        /**
+         * Returns element at the specified index of the SubList.
+         * 
+         * @param index the index of the element to return
+         * @return the element at the specified index
+         * 
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public E get(int index)
+        {
+            checkViewRange(index);
+            return getValues()[_offset + index];
+        }
+
+
+        /**
+         * Replaces the element at the specified index of the SubList, writing
+         * through to the ArrayList.
+         * 
+         * @param index the index to find the position to set the element
+         * @param element the element to set at the specified index
+         * @return the previous element at the specified index
+         * 
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public E set(int index, E element)
+        {
+            checkViewRange(index);
+            return ArrayList.this.set(_offset + index, element);
+        }
+
+
+        /**
+         * Returns the index within the SubList of the first occurrence of the
+         * specified element.
+         * 
+         * @param element the element to check for
+         * @return the index of the element or -1 if the element isn't found
+         * 
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public int indexOf(E element)
+        {
+            checkForComodification();
+
+            E[] values = getValues();
+            int index = -1;
+
+            for (int i = 0; i < _length; i++)
+            {
+                E value = values[_offset + i];
+
+                if (element == null ? value == null : element.equals(value))
+                {
+                    index = i;
+                    break;
+                }
+            }
+
+            return index;
+        }
+
+
+        /**
+         * Returns a view of a range of this SubList, sharing the same
+         * backing array.
+         * 
+         * @param fromIndex the index of the first element in the view
+         * @param toIndex the index after the last element in the view
+         * @return a view of the given range
+         * 
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public SubList subList(int fromIndex, int toIndex)
+        {
+            checkForComodification();
+            checkBounds(fromIndex, toIndex, _length);
+
+            return new SubList(_offset + fromIndex, toIndex - fromIndex);
+        }
+
+
+        /**
+         * Returns a copy of the elements in the SubList.
+         * 
+         * @return a new array holding the elements in order
+         * 
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public Object[] toArray()
+        {
+            checkForComodification();
+            return ArrayList.this.toArray(_offset, _offset + _length);
+        }
+
+
+        /**
+         * Returns an iterator over the elements in the SubList.
+         * 
+         * @return an iterator over the elements in the SubList
+         */
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                // current index points to the next element to be returned
+                private int _index = 0;
+
+
+                /**
+                 * Returns true if the SubList has a next element.
+                 * 
+                 * @return true if the SubList has a next element
+                 * @throws ConcurrentModificationException {@inheritDoc}
+                 */
+                @Override
+                public boolean hasNext()
+                {
+                    checkForComodification();
+                    return _index < _length;
+                }
+
+
+                /**
+                 * Returns the next element in the SubList.
+                 * 
+                 * @return the next element in the SubList
+                 * @throws NoSuchElementException {@inheritDoc}
+                 */
+                @Override
+                public E next()
+                {
+                    if (!hasNext())
+                    {
+                        throw new NoSuchElementException();
+                    }
+
+                    return getValues()[_offset + _index++];
+                }
+            };
+        }
+
+
+        /**
+         * Checks the index is within the SubList and the ArrayList has not
+         * been structurally modified
+         * 
+         * @param index the index in question
+         */
+        private void checkViewRange(int index)
+        {
+            checkForComodification();
+
+            if (index < 0 || index >= _length)
+            {
+                throw new IndexOutOfBoundsException(
+                    String.format("Invalid index"));
+            }
+        }
+
+
+        /**
+         * Checks the ArrayList has not been structurally modified since this
+         * SubList was created.
+         * 
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        private void checkForComodification()
+        {
+            if (_expectedModCount != _modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * GrowthPolicy picks the new capacity of the backing array when it is
+     * full. The result may be smaller than minCapacity, in which case
+     * minCapacity is used instead.
+     * 
+     * @author hzhu20@georgefox.edu
+     * 
+     * @see ArrayList#DOUBLING
+     * @see ArrayList#ONE_AND_A_HALF
+     * @see ArrayList#fixedIncrement(int)
+     * @see ArrayList#chunkedPowerOfTwo(int)
+     */
+    public interface GrowthPolicy
+    {
+        /**
+         * Returns the capacity to grow the backing array to.
+         * 
+         * @param currCapacity the current capacity
+         * @param minCapacity the minimum capacity that is needed
+         * @return the new capacity
+         */
+        int newCapacity(int currCapacity, int minCapacity);
+    }
 }
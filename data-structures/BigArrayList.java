@@ -0,0 +1,475 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Segmented array list that stores its elements in a directory of fixed-size
+ * chunks. Growing only allocates a new chunk, so unlike ArrayList it never
+ * copies the elements it already holds, and because elements are addressed
+ * by a long index it can hold more than Integer.MAX_VALUE elements.
+ *
+ * @author hzhu20@georgefox.edu
+ * @see ArrayList
+ */
+public class BigArrayList<E> implements Iterable<E>
+{
+    // Constants
+
+    private static final int DEFAULT_CHUNK_SHIFT = 14; // 16384 slots per chunk
+    private static final int MAX_CHUNK_SHIFT = 30; // largest chunk an array allows
+    private static final int DEFAULT_LENGTH_DIRECTORY = 4; // default chunk slots
+
+    // Internal State
+
+    private final int _chunkShift; // log2 of the chunk size
+    private final int _chunkSize; // number of slots in each chunk
+    private final int _chunkMask; // mask for the offset within a chunk
+    private E[][] _chunks; // directory of chunks
+    private int _chunkCount; // number of chunks allocated
+    private long _size; // size of claimed space across the chunks
+    private int _modCount; // modification count
+
+
+    /**
+     * Constructor that creates a BigArrayList whose chunks each hold
+     * 2^chunkShift elements.
+     *
+     * @param chunkShift log2 of the number of elements in each chunk
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public BigArrayList(int chunkShift)
+    {
+        if (chunkShift < 1 || chunkShift > MAX_CHUNK_SHIFT)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Chunk shift must be between 1 and %d.", MAX_CHUNK_SHIFT));
+        }
+
+        this._chunkShift = chunkShift;
+        this._chunkSize = 1 << chunkShift;
+        this._chunkMask = this._chunkSize - 1;
+        this._chunks = (E[][]) new Object[DEFAULT_LENGTH_DIRECTORY][];
+        this._chunkCount = 0;
+        this._size = 0;
+    }
+
+
+    /**
+     * Constructor that creates an empty BigArrayList with chunks of 16384
+     * elements.
+     */
+    public BigArrayList()
+    {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+
+    /**
+     * Returns the size of the BigArrayList.
+     *
+     * @return the size of the BigArrayList
+     */
+    public long size()
+    {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if the BigArrayList is empty, false otherwise.
+     *
+     * @return true if the BigArrayList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns element at the specified index.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E get(long index)
+    {
+        checkRange(index);
+        return chunkFor(index)[offsetOf(index)];
+    }
+
+
+    /**
+     * Returns the old element at the specified index and replaces it with the
+     * new specified element.
+     *
+     * @param index the index to find the position to set the specified element
+     * @param element the element to set at the specified index
+     *
+     * @return the previous element at the specified index
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E set(long index, E element)
+    {
+        checkRange(index);
+
+        E[] chunk = chunkFor(index);
+        int offset = offsetOf(index);
+        E prevElement = chunk[offset];
+
+        chunk[offset] = element;
+
+        return prevElement;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element.
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public long indexOf(E element)
+    {
+        long index = -1;
+        long base = 0;
+
+        for (int c = 0; c < _chunkCount && base < _size && index == -1; c++)
+        {
+            E[] chunk = _chunks[c];
+            int length = (int) Math.min(_chunkSize, _size - base);
+
+            for (int i = 0; i < length; i++)
+            {
+                E value = chunk[i];
+
+                if (element == null ? value == null : element.equals(value))
+                {
+                    index = base + i;
+                    break;
+                }
+            }
+
+            base += _chunkSize;
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Appends the specified element to the end of the BigArrayList.
+     *
+     * @param element the element to add
+     * @return true if the element was added
+     */
+    public boolean add(E element)
+    {
+        checkCapacityNeeded(this._size + 1);
+
+        chunkFor(this._size)[offsetOf(this._size)] = element;
+        this._size++;
+        this._modCount++;
+
+        return true;
+    }
+
+
+    /**
+     * Adds the specified element at the specified index. Elements after the
+     * index are shifted one chunk at a time.
+     *
+     * @param index the index to add the element at
+     * @param element the element to add
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(long index, E element)
+    {
+        checkIndex(index);
+        checkCapacityNeeded(this._size + 1);
+
+        int first = chunkIndexOf(index);
+        int last = chunkIndexOf(this._size);
+
+        // shift each later chunk right by one, carrying in the last element
+        // of the chunk before it
+        for (int c = last; c > first; c--)
+        {
+            E[] chunk = _chunks[c];
+            int length = (c == last) ? offsetOf(this._size) : _chunkMask;
+
+            System.arraycopy(chunk, 0, chunk, 1, length);
+            chunk[0] = _chunks[c - 1][_chunkMask];
+        }
+
+        E[] chunk = _chunks[first];
+        int offset = offsetOf(index);
+        int end = (first == last) ? offsetOf(this._size) : _chunkMask;
+
+        System.arraycopy(chunk, offset, chunk, offset + 1, end - offset);
+        chunk[offset] = element;
+
+        this._size++;
+        this._modCount++;
+    }
+
+
+    /**
+     * Removes the element at the specified index. Elements after the index
+     * are shifted one chunk at a time.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E remove(long index)
+    {
+        checkRange(index);
+
+        long lastIndex = this._size - 1;
+        int first = chunkIndexOf(index);
+        int last = chunkIndexOf(lastIndex);
+
+        E[] chunk = _chunks[first];
+        int offset = offsetOf(index);
+        int end = (first == last) ? offsetOf(lastIndex) : _chunkMask;
+        E remElement = chunk[offset];
+
+        System.arraycopy(chunk, offset + 1, chunk, offset, end - offset);
+
+        // shift each later chunk left by one, carrying its first element
+        // into the last slot of the chunk before it
+        for (int c = first + 1; c <= last; c++)
+        {
+            E[] next = _chunks[c];
+            int length = (c == last) ? offsetOf(lastIndex) : _chunkMask;
+
+            _chunks[c - 1][_chunkMask] = next[0];
+            System.arraycopy(next, 1, next, 0, length);
+        }
+
+        chunkFor(lastIndex)[offsetOf(lastIndex)] = null;
+
+        this._size--;
+        this._modCount++;
+
+        return remElement;
+    }
+
+
+    /**
+     * Clears every chunk and sets the size to 0. The chunks are kept for
+     * reuse.
+     */
+    public void clear()
+    {
+        for (int c = 0; c < _chunkCount; c++)
+        {
+            Arrays.fill(_chunks[c], null);
+        }
+
+        this._size = 0;
+        this._modCount++;
+    }
+
+
+    /**
+     * Releases the chunks past the one holding the last element.
+     */
+    public void trimToSize()
+    {
+        int needed = (int) ((this._size + _chunkMask) >>> _chunkShift);
+
+        Arrays.fill(_chunks, needed, _chunkCount, null);
+        this._chunkCount = needed;
+    }
+
+
+    /**
+     * Returns the chunk holding the given index.
+     *
+     * @param index the index in question
+     * @return the chunk holding the index
+     */
+    private E[] chunkFor(long index)
+    {
+        return _chunks[chunkIndexOf(index)];
+    }
+
+
+    /**
+     * Returns the position in the directory of the chunk holding the index.
+     *
+     * @param index the index in question
+     * @return the position of the chunk in the directory
+     */
+    private int chunkIndexOf(long index)
+    {
+        return (int) (index >>> _chunkShift);
+    }
+
+
+    /**
+     * Returns the offset of the index within its chunk.
+     *
+     * @param index the index in question
+     * @return the offset within the chunk
+     */
+    private int offsetOf(long index)
+    {
+        return (int) index & _chunkMask;
+    }
+
+
+    /**
+     * Checks the index is greater than the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkIndex(long index)
+    {
+        if (index < 0 || index > this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid Index: %d", index));
+        }
+    }
+
+
+    /**
+     * Checks the index is greater than or equal to the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkRange(long index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+    }
+
+
+    /**
+     * Allocates chunks until the given number of elements fit. Only the
+     * small directory of chunk references is ever copied.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    @SuppressWarnings("unchecked")
+    private void checkCapacityNeeded(long minCapacity)
+    {
+        while (((long) _chunkCount << _chunkShift) < minCapacity)
+        {
+            if (_chunkCount == _chunks.length)
+            {
+                if (_chunkCount == Integer.MAX_VALUE - 8)
+                {
+                    throw new OutOfMemoryError("Overflow");
+                }
+
+                int newLength = (int) Math.min(_chunkCount * 2L,
+                                               Integer.MAX_VALUE - 8);
+                this._chunks = Arrays.copyOf(_chunks, newLength);
+            }
+
+            _chunks[_chunkCount++] = (E[]) new Object[_chunkSize];
+        }
+    }
+
+
+    /**
+     * Returns new BigArrayListIterator
+     *
+     * @return new BigArrayListIterator
+     * @see BigArrayListIterator
+     * @see Iterator
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new BigArrayListIterator();
+    }
+
+
+    /**
+     * BigArrayListIterator implementing Iterator interface. Walks one chunk
+     * at a time so each step is a plain array read.
+     *
+     * @author hzhu20@georgefox.edu
+     *
+     * @see Iterator
+     * @see BigArrayList
+     */
+    private class BigArrayListIterator implements Iterator<E>
+    {
+        private long _index; // index of the next element to be returned
+        private E[] _chunk; // chunk holding the next element
+        private int _expectedModCount; // tracking list changes
+
+
+        /**
+         * Constructs a BigArrayListIterator
+         */
+        public BigArrayListIterator()
+        {
+            this._index = 0;
+            this._chunk = null;
+            this._expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if the BigArrayListIterator has a next element, false
+         * otherwise.
+         *
+         * @return true if the BigArrayListIterator has a next element
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext()
+        {
+            if (_expectedModCount != _modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+
+            return _index < size();
+        }
+
+
+        /**
+         * Returns the next element in the BigArrayListIterator.
+         *
+         * @return the next element in the BigArrayListIterator
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public E next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            int offset = offsetOf(_index);
+
+            if (offset == 0 || _chunk == null)
+            {
+                _chunk = chunkFor(_index);
+            }
+
+            _index++;
+
+            return _chunk[offset];
+        }
+    }
+}
@@ -0,0 +1,715 @@
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class BoundedBlockingDeque is a double-ended queue with a fixed capacity
+ * that threads use to hand elements to each other. A producer that finds
+ * the deque full waits for room, and a consumer that finds it empty waits
+ * for an element.
+ *
+ * Like Deque it is a doubly-linked list of DequeNodes. Either end can be
+ * written or read by either side, so a single lock guards the deque, with
+ * one condition for producers and one for consumers. The time producers
+ * and consumers spend waiting is recorded. Null elements are not allowed,
+ * since poll uses null to report that nothing was taken.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see Deque
+ * @see BoundedBlockingQueue
+ */
+public class BoundedBlockingDeque<E> {
+
+    private final int _capacity;                 // most elements held at once
+    private DequeNode _head;                     // head of the deque
+    private DequeNode _tail;                     // tail of the deque
+    private int _size;                           // number of elements held
+    private final ReentrantLock _lock;           // guards the whole deque
+    private final Condition _notEmpty;           // consumers wait here
+    private final Condition _notFull;            // producers wait here
+    private final LongAdder _producerWaitNanos;  // time producers waited
+    private final LongAdder _consumerWaitNanos;  // time consumers waited
+
+
+    /**
+     * Constructs a BoundedBlockingDeque that holds at most capacity
+     * elements.
+     *
+     * @param capacity the most elements the deque holds at once
+     *
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BoundedBlockingDeque(int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this._capacity = capacity;
+        this._head = null;
+        this._tail = null;
+        this._size = 0;
+        this._lock = new ReentrantLock();
+        this._notEmpty = this._lock.newCondition();
+        this._notFull = this._lock.newCondition();
+        this._producerWaitNanos = new LongAdder();
+        this._consumerWaitNanos = new LongAdder();
+    }
+
+
+    /**
+     * Add an element at the tail of the deque, waiting for room if the
+     * deque is full.
+     *
+     * @param element the element to be added
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if element is null
+     */
+    public void put(E element) throws InterruptedException {
+        offer(element, false, false, 0);
+    }
+
+
+    /**
+     * Add an element at the head of the deque, waiting for room if the
+     * deque is full.
+     *
+     * @param element the element to be added
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if element is null
+     */
+    public void putHead(E element) throws InterruptedException {
+        offer(element, true, false, 0);
+    }
+
+
+    /**
+     * Add an element at the tail of the deque if there is room for it
+     * right now.
+     *
+     * @param element the element to be added
+     * @return true if the element was added, false if the deque is full
+     *
+     * @throws NullPointerException if element is null
+     */
+    public boolean offer(E element) {
+        return offerNow(element, false);
+    }
+
+
+    /**
+     * Add an element at the head of the deque if there is room for it
+     * right now.
+     *
+     * @param element the element to be added
+     * @return true if the element was added, false if the deque is full
+     *
+     * @throws NullPointerException if element is null
+     */
+    public boolean offerHead(E element) {
+        return offerNow(element, true);
+    }
+
+
+    /**
+     * Add an element at the tail of the deque, waiting up to the given
+     * time for room if the deque is full.
+     *
+     * @param element the element to be added
+     * @param timeout how long to wait for room
+     * @param unit the unit of timeout
+     * @return true if the element was added, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if element is null
+     */
+    public boolean offer(E element, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        return offer(element, false, true, unit.toNanos(timeout));
+    }
+
+
+    /**
+     * Add an element at the head of the deque, waiting up to the given
+     * time for room if the deque is full.
+     *
+     * @param element the element to be added
+     * @param timeout how long to wait for room
+     * @param unit the unit of timeout
+     * @return true if the element was added, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if element is null
+     */
+    public boolean offerHead(E element, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        return offer(element, true, true, unit.toNanos(timeout));
+    }
+
+
+    /**
+     * Remove and return the element at the head of the deque, waiting for
+     * one if the deque is empty.
+     *
+     * @return the element removed from the head
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        return poll(false, false, 0);
+    }
+
+
+    /**
+     * Remove and return the element at the tail of the deque, waiting for
+     * one if the deque is empty.
+     *
+     * @return the element removed from the tail
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E takeTail() throws InterruptedException {
+        return poll(true, false, 0);
+    }
+
+
+    /**
+     * Remove and return the element at the head of the deque if there is
+     * one right now.
+     *
+     * @return the element removed, or null if the deque is empty
+     */
+    public E poll() {
+        return pollNow(false);
+    }
+
+
+    /**
+     * Remove and return the element at the tail of the deque if there is
+     * one right now.
+     *
+     * @return the element removed, or null if the deque is empty
+     */
+    public E pollTail() {
+        return pollNow(true);
+    }
+
+
+    /**
+     * Remove and return the element at the head of the deque, waiting up
+     * to the given time for one if the deque is empty.
+     *
+     * @param timeout how long to wait for an element
+     * @param unit the unit of timeout
+     * @return the element removed, or null if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(false, true, unit.toNanos(timeout));
+    }
+
+
+    /**
+     * Remove and return the element at the tail of the deque, waiting up
+     * to the given time for one if the deque is empty.
+     *
+     * @param timeout how long to wait for an element
+     * @param unit the unit of timeout
+     * @return the element removed, or null if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E pollTail(long timeout, TimeUnit unit)
+        throws InterruptedException {
+        return poll(true, true, unit.toNanos(timeout));
+    }
+
+
+    /**
+     * Returns the head of the deque without removing it.
+     *
+     * @return the head of the deque element
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E head() {
+
+        this._lock.lock();
+
+        try {
+
+            if (this._head == null) {
+                throw new NoSuchElementException();
+            }
+
+            return this._head.getValue();
+
+        } finally {
+            this._lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the tail of the deque without removing it.
+     *
+     * @return the tail of the deque element
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E tail() {
+
+        this._lock.lock();
+
+        try {
+
+            if (this._tail == null) {
+                throw new NoSuchElementException();
+            }
+
+            return this._tail.getValue();
+
+        } finally {
+            this._lock.unlock();
+        }
+    }
+
+
+    /**
+     * Remove up to max elements from the head of the deque and add them,
+     * in order, to the given collection. Never waits, and takes the lock
+     * once for the whole batch. Each element is only removed once the
+     * collection has accepted it, so if add throws, that element and the
+     * ones after it stay in the deque.
+     *
+     * @param collection the collection to add the elements to
+     * @param max the most elements to remove
+     * @return the number of elements removed
+     *
+     * @throws IllegalArgumentException if max is negative or collection
+     *         is this deque
+     */
+    public int drainTo(Collection<? super E> collection, int max) {
+
+        if (max < 0 || collection == (Object) this) {
+            throw new IllegalArgumentException();
+        }
+
+        int drained = 0;
+
+        this._lock.lock();
+
+        try {
+
+            // hand the element over before unlinking it
+            while (drained < max && this._head != null) {
+                collection.add(this._head.getValue());
+                unlink(false);
+                drained++;
+            }
+
+        } finally {
+
+            // every freed slot may let a producer in, even if the
+            // collection threw
+            if (drained > 0) {
+                this._notFull.signalAll();
+            }
+
+            this._lock.unlock();
+        }
+
+        return drained;
+    }
+
+
+    /**
+     * Method to check if the deque is empty
+     *
+     * @return true if the deque is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return depth() == 0;
+    }
+
+
+    /**
+     * Method to get the size of the deque
+     *
+     * @return the size of the deque
+     */
+    public int depth() {
+
+        this._lock.lock();
+
+        try {
+            return this._size;
+        } finally {
+            this._lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the most elements the deque holds at once.
+     *
+     * @return the capacity of the deque
+     */
+    public int capacity() {
+        return this._capacity;
+    }
+
+
+    /**
+     * Returns how many more elements fit before producers have to wait.
+     *
+     * @return the capacity minus the depth
+     */
+    public int remainingCapacity() {
+        return this._capacity - depth();
+    }
+
+
+    /**
+     * Returns the total time producers have spent waiting for room.
+     *
+     * @return the total producer wait time in nanoseconds
+     */
+    public long producerWaitNanos() {
+        return this._producerWaitNanos.sum();
+    }
+
+
+    /**
+     * Returns the total time consumers have spent waiting for elements.
+     *
+     * @return the total consumer wait time in nanoseconds
+     */
+    public long consumerWaitNanos() {
+        return this._consumerWaitNanos.sum();
+    }
+
+
+    /**
+     * Add an element at either end without waiting.
+     *
+     * @param element the element to be added
+     * @param atHead true to add at the head, false at the tail
+     * @return true if the element was added, false if the deque is full
+     */
+    private boolean offerNow(E element, boolean atHead) {
+
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        boolean added = false;
+
+        this._lock.lock();
+
+        try {
+
+            if (this._size < this._capacity) {
+                link(new DequeNode(element), atHead);
+                added = true;
+            }
+
+        } finally {
+            this._lock.unlock();
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Add an element at either end, waiting for room for as long as
+     * allowed.
+     *
+     * @param element the element to be added
+     * @param atHead true to add at the head, false at the tail
+     * @param timed true if the wait is limited to nanos
+     * @param nanos the longest time to wait when timed
+     * @return true if the element was added, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean offer(E element, boolean atHead, boolean timed,
+                          long nanos) throws InterruptedException {
+
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        DequeNode newNode = new DequeNode(element);
+        boolean added = false;
+
+        this._lock.lockInterruptibly();
+
+        try {
+
+            if (this._size == this._capacity && (!timed || nanos > 0)) {
+
+                long start = System.nanoTime();
+
+                try {
+
+                    while (this._size == this._capacity
+                           && (!timed || nanos > 0)) {
+
+                        if (timed) {
+                            nanos = this._notFull.awaitNanos(nanos);
+                        } else {
+                            this._notFull.await();
+                        }
+                    }
+
+                } finally {
+                    this._producerWaitNanos.add(System.nanoTime() - start);
+                }
+            }
+
+            if (this._size < this._capacity) {
+                link(newNode, atHead);
+                added = true;
+            }
+
+        } finally {
+            this._lock.unlock();
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Remove the element at either end without waiting.
+     *
+     * @param atTail true to remove from the tail, false from the head
+     * @return the element removed, or null if the deque is empty
+     */
+    private E pollNow(boolean atTail) {
+
+        E element = null;
+
+        this._lock.lock();
+
+        try {
+
+            if (this._size > 0) {
+                element = unlink(atTail);
+                this._notFull.signal();
+            }
+
+        } finally {
+            this._lock.unlock();
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Remove the element at either end, waiting for one for as long as
+     * allowed.
+     *
+     * @param atTail true to remove from the tail, false from the head
+     * @param timed true if the wait is limited to nanos
+     * @param nanos the longest time to wait when timed
+     * @return the element removed, or null if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private E poll(boolean atTail, boolean timed, long nanos)
+        throws InterruptedException {
+
+        E element = null;
+
+        this._lock.lockInterruptibly();
+
+        try {
+
+            if (this._size == 0 && (!timed || nanos > 0)) {
+
+                long start = System.nanoTime();
+
+                try {
+
+                    while (this._size == 0 && (!timed || nanos > 0)) {
+
+                        if (timed) {
+                            nanos = this._notEmpty.awaitNanos(nanos);
+                        } else {
+                            this._notEmpty.await();
+                        }
+                    }
+
+                } finally {
+                    this._consumerWaitNanos.add(System.nanoTime() - start);
+                }
+            }
+
+            if (this._size > 0) {
+                element = unlink(atTail);
+                this._notFull.signal();
+            }
+
+        } finally {
+            this._lock.unlock();
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Link a node at either end and wake a consumer. Must be called while
+     * holding the lock with room in the deque.
+     *
+     * @param node the node to be linked
+     * @param atHead true to link at the head, false at the tail
+     */
+    private void link(DequeNode node, boolean atHead) {
+
+        if (this._head == null) {
+
+            // the only node is both head and tail
+            this._head = node;
+            this._tail = node;
+
+        } else if (atHead) {
+
+            node.setNext(this._head);
+            this._head.setPrev(node);
+            this._head = node;
+
+        } else {
+
+            node.setPrev(this._tail);
+            this._tail.setNext(node);
+            this._tail = node;
+        }
+
+        this._size++;
+        this._notEmpty.signal();
+    }
+
+
+    /**
+     * Unlink the node at either end. Must be called while holding the lock
+     * with the deque not empty.
+     *
+     * @param atTail true to unlink the tail, false the head
+     * @return the element of the unlinked node
+     */
+    private E unlink(boolean atTail) {
+
+        DequeNode node = atTail ? this._tail : this._head;
+
+        if (atTail) {
+
+            this._tail = node.getPrev();
+
+            if (this._tail == null) {
+                this._head = null;
+            } else {
+                this._tail.setNext(null);
+            }
+
+        } else {
+
+            this._head = node.getNext();
+
+            if (this._head == null) {
+                this._tail = null;
+            } else {
+                this._head.setPrev(null);
+            }
+        }
+
+        this._size--;
+
+        return node.getValue();
+    }
+
+
+    /**
+     * DequeNode is a class that represents a node in a deque.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class DequeNode {
+
+        private final E _value;   // value of the node
+        private DequeNode _next;  // next node in the deque
+        private DequeNode _prev;  // previous node in the deque
+
+
+        /**
+         * Constructs a node holding the given value.
+         *
+         * @param value the value of the node
+         */
+        public DequeNode(E value) {
+            this._value = value;
+        }
+
+
+        /**
+         * Returns the value of the node.
+         *
+         * @return the value of the node
+         */
+        public E getValue() {
+            return this._value;
+        }
+
+
+        /**
+         * Returns the next node in the deque.
+         *
+         * @return the next node in the deque
+         */
+        public DequeNode getNext() {
+            return this._next;
+        }
+
+
+        /**
+         * Sets the next node in the deque.
+         *
+         * @param next the next node in the deque
+         */
+        public void setNext(DequeNode next) {
+            this._next = next;
+        }
+
+
+        /**
+         * Returns the previous node in the deque.
+         *
+         * @return the previous node in the deque
+         */
+        public DequeNode getPrev() {
+            return this._prev;
+        }
+
+
+        /**
+         * Sets the previous node in the deque.
+         *
+         * @param prev the previous node in the deque
+         */
+        public void setPrev(DequeNode prev) {
+            this._prev = prev;
+        }
+    }
+}
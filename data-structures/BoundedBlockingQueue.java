@@ -0,0 +1,641 @@
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BoundedBlockingQueue class is a first-in, first-out queue with a fixed
+ * capacity that threads use to hand elements to each other. A producer
+ * that finds the queue full waits for room, which pushes back on it
+ * instead of letting the queue grow without limit, and a consumer that
+ * finds it empty waits for an element.
+ *
+ * Like Queue it is a singly-linked list of QueueNodes, but it starts with
+ * a sentinel node so that producers only touch the rear and consumers only
+ * touch the front. Each end has its own lock, and the two sides only meet
+ * at the atomic count, so a producer and a consumer never block each
+ * other. The time producers and consumers spend waiting is recorded.
+ * Null elements are not allowed, since poll uses null to report that
+ * nothing was taken.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see Queue
+ */
+public class BoundedBlockingQueue<E> {
+
+    private final int _capacity;                 // most elements held at once
+    private final AtomicInteger _count;          // number of elements held
+    private QueueNode _front;                    // sentinel, take lock
+    private QueueNode _rear;                     // last node, put lock
+    private final ReentrantLock _takeLock;       // held by consumers
+    private final Condition _notEmpty;           // consumers wait here
+    private final ReentrantLock _putLock;        // held by producers
+    private final Condition _notFull;            // producers wait here
+    private final LongAdder _producerWaitNanos;  // time producers waited
+    private final LongAdder _consumerWaitNanos;  // time consumers waited
+
+
+    /**
+     * Constructor for a BoundedBlockingQueue that holds at most capacity
+     * elements.
+     *
+     * @param capacity the most elements the queue holds at once
+     *
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BoundedBlockingQueue(int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this._capacity = capacity;
+        this._count = new AtomicInteger();
+        this._front = new QueueNode(null);
+        this._rear = this._front;
+        this._takeLock = new ReentrantLock();
+        this._notEmpty = this._takeLock.newCondition();
+        this._putLock = new ReentrantLock();
+        this._notFull = this._putLock.newCondition();
+        this._producerWaitNanos = new LongAdder();
+        this._consumerWaitNanos = new LongAdder();
+    }
+
+
+    /**
+     * Add an element to the rear of the queue, waiting for room if the
+     * queue is full.
+     *
+     * @param element the element to be added
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if element is null
+     */
+    public void put(E element) throws InterruptedException {
+        offer(element, false, 0);
+    }
+
+
+    /**
+     * Add an element to the rear of the queue if there is room for it
+     * right now.
+     *
+     * @param element the element to be added
+     * @return true if the element was added, false if the queue is full
+     *
+     * @throws NullPointerException if element is null
+     */
+    public boolean offer(E element) {
+
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        boolean added = false;
+
+        // a full queue is reported without taking the lock
+        if (this._count.get() < this._capacity) {
+
+            try {
+                added = offer(element, true, 0);
+            } catch (InterruptedException e) {
+
+                // a zero timeout never waits, so this cannot happen
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Add an element to the rear of the queue, waiting up to the given
+     * time for room if the queue is full.
+     *
+     * @param element the element to be added
+     * @param timeout how long to wait for room
+     * @param unit the unit of timeout
+     * @return true if the element was added, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if element is null
+     */
+    public boolean offer(E element, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        return offer(element, true, unit.toNanos(timeout));
+    }
+
+
+    /**
+     * Remove and return the element at the front of the queue, waiting
+     * for one if the queue is empty.
+     *
+     * @return the element removed from the front of the queue
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        return poll(false, 0);
+    }
+
+
+    /**
+     * Remove and return the element at the front of the queue if there is
+     * one right now.
+     *
+     * @return the element removed, or null if the queue is empty
+     */
+    public E poll() {
+
+        E element = null;
+
+        // an empty queue is reported without taking the lock
+        if (this._count.get() > 0) {
+
+            try {
+                element = poll(true, 0);
+            } catch (InterruptedException e) {
+
+                // a zero timeout never waits, so this cannot happen
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Remove and return the element at the front of the queue, waiting up
+     * to the given time for one if the queue is empty.
+     *
+     * @param timeout how long to wait for an element
+     * @param unit the unit of timeout
+     * @return the element removed, or null if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(true, unit.toNanos(timeout));
+    }
+
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return the element at the front of the queue
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E head() {
+
+        this._takeLock.lock();
+
+        try {
+
+            // reading the count first makes the producer's writes visible
+            if (this._count.get() == 0) {
+                throw new NoSuchElementException();
+            }
+
+            return this._front.getNext().getElement();
+
+        } finally {
+            this._takeLock.unlock();
+        }
+    }
+
+
+    /**
+     * Remove up to max elements from the front of the queue and add them,
+     * in order, to the given collection. Never waits, and takes the lock
+     * once for the whole batch. Each element is only removed once the
+     * collection has accepted it, so if add throws, that element and the
+     * ones after it stay in the queue.
+     *
+     * @param collection the collection to add the elements to
+     * @param max the most elements to remove
+     * @return the number of elements removed
+     *
+     * @throws IllegalArgumentException if max is negative or collection
+     *         is this queue
+     */
+    public int drainTo(Collection<? super E> collection, int max) {
+
+        if (max < 0 || collection == (Object) this) {
+            throw new IllegalArgumentException();
+        }
+
+        int drained = 0;
+        int before = 0;
+
+        this._takeLock.lock();
+
+        try {
+
+            int n = Math.min(max, this._count.get());
+
+            // hand the element over before unlinking it
+            while (drained < n) {
+                collection.add(this._front.getNext().getElement());
+                unlinkFirst();
+                drained++;
+            }
+
+        } finally {
+
+            // count what was removed even if the collection threw
+            if (drained > 0) {
+                before = this._count.getAndAdd(-drained);
+            }
+
+            this._takeLock.unlock();
+
+            // producers may be waiting if the queue was full
+            if (before == this._capacity) {
+                signalNotFull();
+            }
+        }
+
+        return drained;
+    }
+
+
+    /**
+     * Method to check if the queue is empty
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this._count.get() == 0;
+    }
+
+
+    /**
+     * Method to get the size of the queue
+     *
+     * @return the size of the queue
+     */
+    public int depth() {
+        return this._count.get();
+    }
+
+
+    /**
+     * Returns the most elements the queue holds at once.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return this._capacity;
+    }
+
+
+    /**
+     * Returns how many more elements fit before producers have to wait.
+     *
+     * @return the capacity minus the depth
+     */
+    public int remainingCapacity() {
+        return this._capacity - this._count.get();
+    }
+
+
+    /**
+     * Returns the total time producers have spent waiting for room.
+     *
+     * @return the total producer wait time in nanoseconds
+     */
+    public long producerWaitNanos() {
+        return this._producerWaitNanos.sum();
+    }
+
+
+    /**
+     * Returns the total time consumers have spent waiting for elements.
+     *
+     * @return the total consumer wait time in nanoseconds
+     */
+    public long consumerWaitNanos() {
+        return this._consumerWaitNanos.sum();
+    }
+
+
+    /**
+     * Add an element at the rear, waiting for room for as long as allowed.
+     *
+     * @param element the element to be added
+     * @param timed true if the wait is limited to nanos
+     * @param nanos the longest time to wait when timed
+     * @return true if the element was added, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean offer(E element, boolean timed, long nanos)
+        throws InterruptedException {
+
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        QueueNode newNode = new QueueNode(element);
+        boolean added = false;
+        int before = -1;
+
+        lock(this._putLock, timed && nanos <= 0);
+
+        try {
+
+            if (awaitNotFull(timed, nanos)) {
+
+                // link after the rear, only producers touch the rear
+                this._rear.setNext(newNode);
+                this._rear = newNode;
+                added = true;
+
+                before = this._count.getAndIncrement();
+
+                // let the next producer in if there is still room
+                if (before + 1 < this._capacity) {
+                    this._notFull.signal();
+                }
+            }
+
+        } finally {
+            this._putLock.unlock();
+        }
+
+        // consumers may be waiting if the queue was empty
+        if (before == 0) {
+            signalNotEmpty();
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Remove the element at the front, waiting for one for as long as
+     * allowed.
+     *
+     * @param timed true if the wait is limited to nanos
+     * @param nanos the longest time to wait when timed
+     * @return the element removed, or null if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private E poll(boolean timed, long nanos) throws InterruptedException {
+
+        E element = null;
+        int before = -1;
+
+        lock(this._takeLock, timed && nanos <= 0);
+
+        try {
+
+            if (awaitNotEmpty(timed, nanos)) {
+
+                element = unlinkFirst();
+                before = this._count.getAndDecrement();
+
+                // let the next consumer in if there is still an element
+                if (before > 1) {
+                    this._notEmpty.signal();
+                }
+            }
+
+        } finally {
+            this._takeLock.unlock();
+        }
+
+        // producers may be waiting if the queue was full
+        if (before == this._capacity) {
+            signalNotFull();
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Wait while the queue is full, adding the time spent to the producer
+     * wait total. Must be called while holding the put lock.
+     *
+     * @param timed true if the wait is limited to nanos
+     * @param nanos the longest time to wait when timed
+     * @return true if there is room, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean awaitNotFull(boolean timed, long nanos)
+        throws InterruptedException {
+
+        boolean room = this._count.get() < this._capacity;
+
+        if (!room && (!timed || nanos > 0)) {
+
+            long start = System.nanoTime();
+
+            try {
+
+                while (this._count.get() == this._capacity
+                       && (!timed || nanos > 0)) {
+
+                    if (timed) {
+                        nanos = this._notFull.awaitNanos(nanos);
+                    } else {
+                        this._notFull.await();
+                    }
+                }
+
+                room = this._count.get() < this._capacity;
+
+            } finally {
+                this._producerWaitNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        return room;
+    }
+
+
+    /**
+     * Wait while the queue is empty, adding the time spent to the consumer
+     * wait total. Must be called while holding the take lock.
+     *
+     * @param timed true if the wait is limited to nanos
+     * @param nanos the longest time to wait when timed
+     * @return true if there is an element, false if time ran out
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean awaitNotEmpty(boolean timed, long nanos)
+        throws InterruptedException {
+
+        boolean available = this._count.get() > 0;
+
+        if (!available && (!timed || nanos > 0)) {
+
+            long start = System.nanoTime();
+
+            try {
+
+                while (this._count.get() == 0 && (!timed || nanos > 0)) {
+
+                    if (timed) {
+                        nanos = this._notEmpty.awaitNanos(nanos);
+                    } else {
+                        this._notEmpty.await();
+                    }
+                }
+
+                available = this._count.get() > 0;
+
+            } finally {
+                this._consumerWaitNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        return available;
+    }
+
+
+    /**
+     * Unlink the first element. The node holding it becomes the new
+     * sentinel. Must be called while holding the take lock with the
+     * queue not empty.
+     *
+     * @return the element that was first
+     */
+    private E unlinkFirst() {
+
+        QueueNode first = this._front.getNext();
+        E element = first.getElement();
+
+        // drop the reference so the sentinel does not keep it alive
+        first.setElement(null);
+        this._front.setNext(null);
+        this._front = first;
+
+        return element;
+    }
+
+
+    /**
+     * Take a lock, allowing interruption unless the caller will not wait.
+     *
+     * @param lock the lock to take
+     * @param noWait true if the caller will not wait once it has the lock
+     *
+     * @throws InterruptedException if interrupted while taking the lock
+     */
+    private void lock(ReentrantLock lock, boolean noWait)
+        throws InterruptedException {
+
+        if (noWait) {
+            lock.lock();
+        } else {
+            lock.lockInterruptibly();
+        }
+    }
+
+
+    /**
+     * Wake a waiting consumer. Called by producers after the put lock has
+     * been released.
+     */
+    private void signalNotEmpty() {
+
+        this._takeLock.lock();
+
+        try {
+            this._notEmpty.signal();
+        } finally {
+            this._takeLock.unlock();
+        }
+    }
+
+
+    /**
+     * Wake a waiting producer. Called by consumers after the take lock has
+     * been released.
+     */
+    private void signalNotFull() {
+
+        this._putLock.lock();
+
+        try {
+            this._notFull.signal();
+        } finally {
+            this._putLock.unlock();
+        }
+    }
+
+
+    /**
+     * QueueNode class which is a node for the queue.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class QueueNode {
+
+        private E _element;        // element of the node
+        private QueueNode _next;   // next node
+
+
+        /**
+         * Constructor for objects of class QueueNode
+         *
+         * @param element the element of the node
+         */
+        public QueueNode(E element) {
+            this._element = element;
+        }
+
+
+        /**
+         * Method to get the element of the node
+         *
+         * @return the element of the node
+         */
+        public E getElement() {
+            return this._element;
+        }
+
+
+        /**
+         * Method to set the element of the node
+         *
+         * @param element the element of the node
+         */
+        public void setElement(E element) {
+            this._element = element;
+        }
+
+
+        /**
+         * Method to get the next node
+         *
+         * @return the next node
+         */
+        public QueueNode getNext() {
+            return this._next;
+        }
+
+
+        /**
+         * Method to set the next node
+         *
+         * @param next the next node
+         */
+        public void setNext(QueueNode next) {
+            this._next = next;
+        }
+    }
+}
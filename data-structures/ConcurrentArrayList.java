@@ -0,0 +1,728 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe resizable array list built on the same storage model as
+ * ArrayList, with the backing array split into buckets whose lengths double,
+ * 16, 32, 64 and so on. Growing allocates the next bucket and never copies
+ * the elements already stored.
+ *
+ * Appenders never wait for one another. Each claims a slot with a
+ * compare-and-set on the claimed count, creates the slot's bucket with a
+ * compare-and-set if it is missing, and writes the slot. Slots are published
+ * in order: whichever appender finds the slot at the published size written
+ * moves the size past it, so an appender that stalls after claiming a slot
+ * only delays the visibility of later slots, never their appenders. An
+ * appended element is counted by size() once every element appended before
+ * it has been written.
+ *
+ * Inserting or removing in the middle shifts the tail of the list, so those
+ * operations, along with clear, exclude appenders. Each bucket also has its
+ * own lock, and a shift only locks the buckets from the index to the end,
+ * so get and set on earlier buckets carry on during it. Reads are optimistic
+ * and take no lock unless a shift of their bucket overlaps them.
+ *
+ * @author hzhu20@georgefox.edu
+ * @see ArrayList
+ */
+public class ConcurrentArrayList<E> implements Iterable<E>
+{
+    // Constants
+
+    private static final int FIRST_BUCKET_SHIFT = 4; // log2 of the first bucket
+    private static final int FIRST_BUCKET_LENGTH = 16; // slots in the first bucket
+    private static final int BUCKETS = 27; // buckets needed to reach max capacity
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 16; // max capacity
+    private static final int DEFAULT_LENGTH_ARRAY = 10; // default capacity
+    private static final Object NULL = new Object(); // stands in for null
+
+    // Internal State
+
+    private final StampedLock _gate; // shared for appends, exclusive for shifts
+    private final StampedLock[] _stripes; // one lock per bucket
+    // _buckets holds the backing buckets, created as they are needed
+    private final AtomicReferenceArray<AtomicReferenceArray<Object>> _buckets;
+    private final AtomicInteger _claimed; // slots handed out to appenders
+    private final AtomicInteger _size; // slots written and visible to readers
+
+
+    /**
+     * Constructor that creates a ConcurrentArrayList with the given initial
+     * capacity.
+     *
+     * @param initialCapacity the initial capacity of the ConcurrentArrayList
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    public ConcurrentArrayList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Capacity needs to be at least 1.");
+        }
+
+        this._gate = new StampedLock();
+        this._stripes = new StampedLock[BUCKETS];
+        this._buckets =
+            new AtomicReferenceArray<AtomicReferenceArray<Object>>(BUCKETS);
+        this._claimed = new AtomicInteger();
+        this._size = new AtomicInteger();
+
+        for (int b = 0; b < BUCKETS; b++)
+        {
+            _stripes[b] = new StampedLock();
+        }
+
+        if (initialCapacity > 0)
+        {
+            int last = bucketOf(Math.min(initialCapacity, MAX_ELEMENTS) - 1);
+
+            for (int b = 0; b <= last; b++)
+            {
+                _buckets.set(b, new AtomicReferenceArray<Object>(
+                    FIRST_BUCKET_LENGTH << b));
+            }
+        }
+    }
+
+
+    /**
+     * Constructor that creates an empty ConcurrentArrayList with default
+     * capacity of 10.
+     */
+    public ConcurrentArrayList()
+    {
+        this(DEFAULT_LENGTH_ARRAY);
+    }
+
+
+    /**
+     * Returns the number of published elements in the ConcurrentArrayList.
+     *
+     * @return the size of the ConcurrentArrayList
+     */
+    public int size()
+    {
+        return this._size.get();
+    }
+
+
+    /**
+     * Returns true if the ConcurrentArrayList is empty, false otherwise.
+     *
+     * @return true if the ConcurrentArrayList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns element at the specified index. The read is optimistic and
+     * only falls back to the bucket's lock if a shift of the bucket
+     * overlapped it.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E get(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+
+        StampedLock stripe = _stripes[bucketOf(index)];
+        long stamp = stripe.tryOptimisticRead();
+        int size = size();
+        Object value = (index < size) ? slot(index) : null;
+
+        if (!stripe.validate(stamp))
+        {
+            stamp = stripe.readLock();
+
+            try
+            {
+                size = size();
+                value = (index < size) ? slot(index) : null;
+            }
+            finally
+            {
+                stripe.unlockRead(stamp);
+            }
+        }
+
+        if (index >= size)
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+
+        return unmask(value);
+    }
+
+
+    /**
+     * Returns the old element at the specified index and replaces it with the
+     * new specified element. Only waits for a shift of the index's bucket.
+     *
+     * @param index the index to find the position to set the specified element
+     * @param element the element to set at the specified index
+     *
+     * @return the previous element at the specified index
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E set(int index, E element)
+    {
+        // check before picking the stripe, and again once it is held
+        checkRange(index);
+
+        StampedLock stripe = _stripes[bucketOf(index)];
+        long stamp = stripe.readLock();
+
+        try
+        {
+            checkRange(index);
+            return unmask(_buckets.get(bucketOf(index))
+                                  .getAndSet(offsetOf(index), mask(element)));
+        }
+        finally
+        {
+            stripe.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element.
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public int indexOf(E element)
+    {
+        long stamp = _gate.readLock();
+
+        try
+        {
+            int size = size();
+            int index = -1;
+
+            for (int i = 0; i < size && index == -1; i++)
+            {
+                E value = unmask(slot(i));
+
+                if (element == null ? value == null : element.equals(value))
+                {
+                    index = i;
+                }
+            }
+
+            return index;
+        }
+        finally
+        {
+            _gate.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Returns true if the ConcurrentArrayList contains the specified element,
+     * false otherwise.
+     *
+     * @param element the element to check for
+     * @return true if the ConcurrentArrayList contains the specified element,
+     *         false otherwise
+     */
+    public boolean contains(E element)
+    {
+        return indexOf(element) >= 0;
+    }
+
+
+    /**
+     * Appends the specified element to the end of the ConcurrentArrayList.
+     * Concurrent appenders only share the gate, claim distinct slots with a
+     * compare-and-set, and never wait for one another.
+     *
+     * @param element the element to add
+     * @return true if the element was added
+     */
+    public boolean add(E element)
+    {
+        long stamp = _gate.readLock();
+
+        try
+        {
+            int slot = claimSlot();
+
+            bucketFor(slot).set(offsetOf(slot), mask(element));
+            publish();
+        }
+        finally
+        {
+            _gate.unlockRead(stamp);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Adds the specified element at the specified index. Appenders and
+     * readers of the buckets from the index to the end wait until it is
+     * done.
+     *
+     * @param index the index to add the element at
+     * @param element the element to add
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(int index, E element)
+    {
+        long stamp = _gate.writeLock();
+
+        try
+        {
+            checkIndex(index);
+
+            int size = size();
+
+            if (size == MAX_ELEMENTS)
+            {
+                throw new OutOfMemoryError("Overflow");
+            }
+
+            bucketFor(size);
+
+            long[] stamps = lockStripes(index, size);
+
+            try
+            {
+                for (int i = size; i > index; i--)
+                {
+                    setSlot(i, slot(i - 1));
+                }
+
+                setSlot(index, mask(element));
+                _claimed.incrementAndGet();
+                _size.incrementAndGet();
+            }
+            finally
+            {
+                unlockStripes(index, size, stamps);
+            }
+        }
+        finally
+        {
+            _gate.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Removes the element at the specified index. Appenders and readers of
+     * the buckets from the index to the end wait until it is done.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E remove(int index)
+    {
+        long stamp = _gate.writeLock();
+
+        try
+        {
+            checkRange(index);
+
+            int last = size() - 1;
+            long[] stamps = lockStripes(index, last);
+
+            try
+            {
+                E remElement = unmask(slot(index));
+
+                for (int i = index; i < last; i++)
+                {
+                    setSlot(i, slot(i + 1));
+                }
+
+                setSlot(last, null);
+                _claimed.decrementAndGet();
+                _size.decrementAndGet();
+
+                return remElement;
+            }
+            finally
+            {
+                unlockStripes(index, last, stamps);
+            }
+        }
+        finally
+        {
+            _gate.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Clears the buckets and sets the size to 0. The buckets are kept for
+     * reuse.
+     */
+    public void clear()
+    {
+        long stamp = _gate.writeLock();
+
+        try
+        {
+            int size = size();
+
+            if (size > 0)
+            {
+                long[] stamps = lockStripes(0, size - 1);
+
+                try
+                {
+                    for (int i = 0; i < size; i++)
+                    {
+                        setSlot(i, null);
+                    }
+
+                    _claimed.set(0);
+                    _size.set(0);
+                }
+                finally
+                {
+                    unlockStripes(0, size - 1, stamps);
+                }
+            }
+        }
+        finally
+        {
+            _gate.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Claims the next free slot for an appender.
+     *
+     * @return the claimed slot
+     */
+    private int claimSlot()
+    {
+        int slot = -1;
+
+        while (slot < 0)
+        {
+            int claimed = _claimed.get();
+
+            if (claimed >= MAX_ELEMENTS)
+            {
+                throw new OutOfMemoryError("Overflow");
+            }
+
+            if (_claimed.compareAndSet(claimed, claimed + 1))
+            {
+                slot = claimed;
+            }
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Moves the published size past every written slot that follows it.
+     * Whichever appender writes the slot at the published size carries the
+     * size on over the slots later appenders have already written, so no
+     * appender waits for an earlier one to finish.
+     */
+    private void publish()
+    {
+        int size = _size.get();
+
+        while (size < _claimed.get() && isWritten(size))
+        {
+            _size.compareAndSet(size, size + 1);
+            size = _size.get();
+        }
+    }
+
+
+    /**
+     * Returns true if the claimed slot has been written by its appender.
+     *
+     * @param index the index of the slot
+     * @return true if the slot holds an element
+     */
+    private boolean isWritten(int index)
+    {
+        AtomicReferenceArray<Object> bucket = _buckets.get(bucketOf(index));
+
+        return bucket != null && bucket.get(offsetOf(index)) != null;
+    }
+
+
+    /**
+     * Write-locks the stripes of the buckets from the one holding first to
+     * the one holding last, in order. Must be called while holding the gate
+     * exclusively.
+     *
+     * @param first the first index to be locked
+     * @param last the last index to be locked
+     * @return the stamps of the locked stripes, indexed by bucket
+     */
+    private long[] lockStripes(int first, int last)
+    {
+        long[] stamps = new long[BUCKETS];
+
+        for (int b = bucketOf(first); b <= bucketOf(last); b++)
+        {
+            stamps[b] = _stripes[b].writeLock();
+        }
+
+        return stamps;
+    }
+
+
+    /**
+     * Unlocks the stripes locked by lockStripes, in reverse order.
+     *
+     * @param first the first index that was locked
+     * @param last the last index that was locked
+     * @param stamps the stamps returned by lockStripes
+     */
+    private void unlockStripes(int first, int last, long[] stamps)
+    {
+        for (int b = bucketOf(last); b >= bucketOf(first); b--)
+        {
+            _stripes[b].unlockWrite(stamps[b]);
+        }
+    }
+
+
+    /**
+     * Returns the bucket holding the index, creating it with a
+     * compare-and-set if it does not exist yet. Of several threads racing to
+     * create a bucket, all use the one that was installed first.
+     *
+     * @param index the index in question
+     * @return the bucket holding the index
+     */
+    private AtomicReferenceArray<Object> bucketFor(int index)
+    {
+        int b = bucketOf(index);
+        AtomicReferenceArray<Object> bucket = _buckets.get(b);
+
+        if (bucket == null)
+        {
+            bucket = new AtomicReferenceArray<Object>(FIRST_BUCKET_LENGTH << b);
+
+            if (!_buckets.compareAndSet(b, null, bucket))
+            {
+                bucket = _buckets.get(b);
+            }
+        }
+
+        return bucket;
+    }
+
+
+    /**
+     * Returns the masked value in a slot, which must have been claimed.
+     *
+     * @param index the index of the slot
+     * @return the masked value in the slot
+     */
+    private Object slot(int index)
+    {
+        return _buckets.get(bucketOf(index)).get(offsetOf(index));
+    }
+
+
+    /**
+     * Writes a masked value into a slot while holding its bucket's stripe
+     * exclusively.
+     *
+     * @param index the index of the slot
+     * @param value the masked value, or null to free the slot
+     */
+    private void setSlot(int index, Object value)
+    {
+        _buckets.get(bucketOf(index)).set(offsetOf(index), value);
+    }
+
+
+    /**
+     * Returns the position in the directory of the bucket holding the index.
+     * Bucket b holds the 16 * 2^b indices starting at 16 * (2^b - 1).
+     *
+     * @param index the index in question
+     * @return the position of the bucket in the directory
+     */
+    private static int bucketOf(int index)
+    {
+        return 31 - Integer.numberOfLeadingZeros(index + FIRST_BUCKET_LENGTH)
+               - FIRST_BUCKET_SHIFT;
+    }
+
+
+    /**
+     * Returns the offset of the index within its bucket.
+     *
+     * @param index the index in question
+     * @return the offset within the bucket
+     */
+    private static int offsetOf(int index)
+    {
+        int position = index + FIRST_BUCKET_LENGTH;
+
+        return position ^ Integer.highestOneBit(position);
+    }
+
+
+    /**
+     * Returns the value stored for an element, so that an empty slot can be
+     * told apart from a null element.
+     *
+     * @param element the element to be stored
+     * @return the element, or NULL if it is null
+     */
+    private static Object mask(Object element)
+    {
+        return (element == null) ? NULL : element;
+    }
+
+
+    /**
+     * Returns the element a stored value stands for.
+     *
+     * @param value the stored value
+     * @return the element, or null if the value is NULL
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object value)
+    {
+        return (value == NULL) ? null : (T) value;
+    }
+
+
+    /**
+     * Checks the index is greater than the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index > this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid Index: %d", index));
+        }
+    }
+
+
+    /**
+     * Checks the index is greater than or equal to the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkRange(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+    }
+
+
+    /**
+     * Returns new ConcurrentArrayListIterator
+     *
+     * @return new ConcurrentArrayListIterator
+     * @see ConcurrentArrayListIterator
+     * @see Iterator
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new ConcurrentArrayListIterator();
+    }
+
+
+    /**
+     * ConcurrentArrayListIterator is weakly consistent: it never throws
+     * ConcurrentModificationException, sees elements appended while it runs,
+     * and may skip or repeat elements shifted by a concurrent insert or
+     * remove.
+     *
+     * @author hzhu20@georgefox.edu
+     *
+     * @see Iterator
+     * @see ConcurrentArrayList
+     */
+    private class ConcurrentArrayListIterator implements Iterator<E>
+    {
+        // current index points to the next element to be returned
+        private int _index;
+
+
+        /**
+         * Constructs a ConcurrentArrayListIterator
+         */
+        public ConcurrentArrayListIterator()
+        {
+            this._index = 0;
+        }
+
+
+        /**
+         * Returns true if the ConcurrentArrayListIterator has a next element,
+         * false otherwise.
+         *
+         * @return true if the ConcurrentArrayListIterator has a next element
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return _index < size();
+        }
+
+
+        /**
+         * Returns the next element in the ConcurrentArrayListIterator.
+         *
+         * @return the next element in the ConcurrentArrayListIterator
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        @Override
+        public E next()
+        {
+            E element = null;
+
+            try
+            {
+                element = get(_index);
+            }
+            catch (IndexOutOfBoundsException e)
+            {
+                throw new NoSuchElementException();
+            }
+
+            _index++;
+
+            return element;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Benchmark of ConcurrentArrayList against an ArrayList with every call
+ * synchronized on the list, at 1, 4, 16 and 64 threads. Run it with
+ *
+ *     java ConcurrentArrayListBenchmark
+ *
+ * Two workloads are measured: appends only, which is the ingest path, and
+ * a mix of nine reads of random published indices for every append.
+ *
+ * @author hzhu20@georgefox.edu
+ * @see ConcurrentArrayList
+ * @see ThroughputBenchmark
+ */
+public class ConcurrentArrayListBenchmark
+{
+    // Constants
+
+    private static final int OPERATIONS = 1 << 22; // operations per round
+    private static final int READS_PER_APPEND = 9; // reads in the mixed workload
+
+
+    /**
+     * Prevents instances, everything is static.
+     */
+    private ConcurrentArrayListBenchmark()
+    {
+    }
+
+
+    /**
+     * Runs both workloads and prints the results.
+     *
+     * @param args not used
+     * @throws InterruptedException if interrupted while waiting for the
+     *         benchmark threads
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        ThroughputBenchmark.compare(
+            "Appends", OPERATIONS,
+            "synchronized", ArrayList<Integer>::new,
+            (list, thread, i) ->
+            {
+                synchronized (list)
+                {
+                    list.add(i);
+                }
+            },
+            "concurrent", ConcurrentArrayList<Integer>::new,
+            (list, thread, i) -> list.add(i));
+
+        ThroughputBenchmark.compare(
+            "Reads and appends", OPERATIONS,
+            "synchronized", ArrayList<Integer>::new,
+            (list, thread, i) ->
+            {
+                synchronized (list)
+                {
+                    if (isAppend(i) || list.isEmpty())
+                    {
+                        list.add(i);
+                    }
+                    else
+                    {
+                        list.get(indexFor(thread, i, list.size()));
+                    }
+                }
+            },
+            "concurrent", ConcurrentArrayList<Integer>::new,
+            (list, thread, i) ->
+            {
+                int size = list.size();
+
+                if (isAppend(i) || size == 0)
+                {
+                    list.add(i);
+                }
+                else
+                {
+                    list.get(indexFor(thread, i, size));
+                }
+            });
+    }
+
+
+    /**
+     * Returns true if the i-th operation of the mixed workload is an append.
+     *
+     * @param i the number of the operation within its thread
+     * @return true if the operation is an append
+     */
+    private static boolean isAppend(int i)
+    {
+        return i % (READS_PER_APPEND + 1) == 0;
+    }
+
+
+    /**
+     * Returns a pseudo-random index below size, different for every thread
+     * and operation, without sharing a random number generator.
+     *
+     * @param thread the number of the running thread
+     * @param i the number of the operation within its thread
+     * @param size the number of published elements
+     * @return an index below size
+     */
+    private static int indexFor(int thread, int i, int size)
+    {
+        int hash = (thread * 0x9E3779B9) ^ (i * 0x85EBCA6B);
+
+        return Math.floorMod(hash ^ (hash >>> 16), size);
+    }
+}
@@ -0,0 +1,458 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class ConcurrentLinkedList of type E is a lock-free singly-linked list
+ * that any number of threads may append to and remove from at once.
+ *
+ * Nodes are removed the way Harris described: the next link of a node is
+ * first marked, which logically deletes the node and freezes its link, and
+ * the node is then physically unlinked with a compare-and-set on its
+ * predecessor. Any thread that walks past a marked node helps unlink it, so
+ * no thread ever waits for another.
+ *
+ * Iterators are weakly consistent. They never throw
+ * ConcurrentModificationException, return each element at most once, and
+ * may or may not see changes made after they were created.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see LinkedList
+ */
+public class ConcurrentLinkedList<E> implements Iterable<E> {
+
+    private final Node _head;                  // sentinel before the first node
+    private final AtomicReference<Node> _tail;  // a node at or near the tail
+    private final LongAdder _size;             // approximate number of elements
+
+
+    /**
+     * Constructs an empty list.
+     */
+    public ConcurrentLinkedList() {
+        _head = new Node(null, null);
+        _tail = new AtomicReference<Node>(_head);
+        _size = new LongAdder();
+    }
+
+
+    /**
+     * Append an element at the tail of the list.
+     *
+     * @param element the element to be appended
+     * @return true if the element is added
+     */
+    public boolean add(E element) {
+
+        Node newNode = new Node(element, null);
+        boolean added = false;
+
+        while (!added) {
+
+            // start from the tail hint unless it has been deleted
+            Node pred = _tail.get();
+
+            if (pred.isMarked()) {
+                pred = _head;
+            }
+
+            // walk to the last node, unlinking deleted nodes on the way
+            Node curr = pred.next();
+
+            while (curr != null && !added) {
+
+                boolean[] marked = {false};
+                Node succ = curr._next.get(marked);
+
+                if (marked[0]) {
+
+                    // help unlink the deleted node, restarting if pred moved
+                    if (!pred._next.compareAndSet(curr, succ, false, false)) {
+                        break;
+                    }
+
+                    curr = succ;
+
+                } else {
+                    pred = curr;
+                    curr = succ;
+                }
+            }
+
+            // link after pred if it is still the unmarked last node
+            if (curr == null
+                && pred._next.compareAndSet(null, newNode, false, false)) {
+
+                added = true;
+                _tail.set(newNode);
+                _size.increment();
+            }
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Remove the first occurrence of the element from the list.
+     *
+     * @param element the element to be removed
+     * @return true if an element was removed, false if none was found
+     */
+    public boolean remove(E element) {
+
+        boolean removed = false;
+        boolean done = false;
+
+        // delete only fails if another thread deleted the match first, in
+        // which case the search is run again
+        while (!done) {
+
+            Window window = find(element);
+
+            if (window == null) {
+
+                // no unmarked node holds the element
+                done = true;
+
+            } else if (delete(window._pred, window._curr)) {
+                removed = true;
+                done = true;
+            }
+        }
+
+        return removed;
+    }
+
+
+    /**
+     * Remove and return the first element of the list.
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public E removeFirst() {
+
+        E element = null;
+        boolean done = false;
+
+        while (!done) {
+
+            Node first = _head.next();
+
+            if (first == null) {
+
+                // the list is empty
+                done = true;
+
+            } else if (first.isMarked()) {
+
+                // help unlink a deleted first node and look again
+                _head._next.compareAndSet(first, first.next(), false, false);
+
+            } else if (delete(_head, first)) {
+                element = first._value;
+                done = true;
+            }
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Returns true if the list contains an unmarked node holding element.
+     *
+     * @param element the element to be searched for
+     * @return true if the element is in the list
+     */
+    public boolean contains(E element) {
+
+        boolean found = false;
+
+        for (Node node = _head.next(); node != null && !found;
+             node = node.next()) {
+            found = !node.isMarked() && matches(element, node._value);
+        }
+
+        return found;
+    }
+
+
+    /**
+     * Returns the number of elements in this list. The count is exact when
+     * no other thread is changing the list, otherwise it is an estimate.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(_size.sum(), Integer.MAX_VALUE));
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+
+        // skip over nodes that are deleted but not yet unlinked
+        Node node = _head.next();
+
+        while (node != null && node.isMarked()) {
+            node = node.next();
+        }
+
+        return node == null;
+    }
+
+
+    /**
+     * Creates a new weakly consistent iterator over this list.
+     *
+     * @return a new ConcurrentListIterator over this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentListIterator();
+    }
+
+
+    /**
+     * Walk the list from the head, unlinking deleted nodes on the way,
+     * until reaching an unmarked node holding element.
+     *
+     * @param element the element to be searched for
+     * @return the node holding element and its predecessor, or null if no
+     *         such node was found
+     */
+    private Window find(E element) {
+
+        Window found = null;
+        boolean retry = true;
+
+        while (retry) {
+
+            retry = false;
+            Node pred = _head;
+            Node curr = pred.next();
+
+            while (curr != null && found == null && !retry) {
+
+                boolean[] marked = {false};
+                Node succ = curr._next.get(marked);
+
+                if (marked[0]) {
+
+                    // help unlink, starting over if pred changed under us
+                    if (pred._next.compareAndSet(curr, succ, false, false)) {
+                        curr = succ;
+                    } else {
+                        retry = true;
+                    }
+
+                } else if (matches(element, curr._value)) {
+                    found = new Window(pred, curr);
+
+                } else {
+                    pred = curr;
+                    curr = succ;
+                }
+            }
+        }
+
+        return found;
+    }
+
+
+    /**
+     * Logically delete curr by marking its next link, then try once to
+     * unlink it from pred. If the unlink fails, a later traversal will
+     * finish it. A node appended after curr while marking only means the
+     * mark is tried again with the new link.
+     *
+     * @param pred the predecessor of curr
+     * @param curr the node to be deleted
+     * @return true if this thread deleted curr, false if another thread
+     *         deleted it first
+     */
+    private boolean delete(Node pred, Node curr) {
+
+        boolean deleted = false;
+        boolean[] marked = {false};
+        Node succ = curr._next.get(marked);
+
+        while (!deleted && !marked[0]) {
+
+            deleted = curr._next.compareAndSet(succ, succ, false, true);
+
+            if (!deleted) {
+                succ = curr._next.get(marked);
+            }
+        }
+
+        if (deleted) {
+            _size.decrement();
+            pred._next.compareAndSet(curr, succ, false, false);
+        }
+
+        return deleted;
+    }
+
+
+    /**
+     * Compare two elements, either of which may be null.
+     *
+     * @param element the element being searched for
+     * @param value the value of a node
+     * @return true if the two are equal
+     */
+    private boolean matches(E element, E value) {
+        return (element == null) ? value == null : element.equals(value);
+    }
+
+
+    /**
+     * Node class that stores the value of the node and a markable link to
+     * the next node. A marked link means the node has been deleted.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class Node {
+
+        private final E _value;                            // the value
+        private final AtomicMarkableReference<Node> _next;  // next, deleted
+
+
+        /**
+         * Constructs a node with the given value and next node.
+         *
+         * @param value the value to be stored in this node
+         * @param next the next node in the list
+         */
+        public Node(E value, Node next) {
+            _value = value;
+            _next = new AtomicMarkableReference<Node>(next, false);
+        }
+
+
+        /**
+         * Returns the next node in the list.
+         *
+         * @return the next node in the list
+         */
+        public Node next() {
+            return _next.getReference();
+        }
+
+
+        /**
+         * Returns true if this node has been deleted.
+         *
+         * @return true if this node has been deleted
+         */
+        public boolean isMarked() {
+            return _next.isMarked();
+        }
+    }
+
+
+    /**
+     * Window class holds a node found by a search together with the node
+     * before it, so the node deleted is exactly the node that matched.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class Window {
+
+        private final Node _pred;  // the node before _curr
+        private final Node _curr;  // the node that matched
+
+
+        /**
+         * Constructs a window over two adjacent nodes.
+         *
+         * @param pred the node before curr
+         * @param curr the node that matched
+         */
+        public Window(Node pred, Node curr) {
+            _pred = pred;
+            _curr = curr;
+        }
+    }
+
+
+    /**
+     * ConcurrentListIterator class implements a weakly consistent Iterator
+     * that skips deleted nodes.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class ConcurrentListIterator implements Iterator<E> {
+
+        private Node _nextNode;  // unmarked node to deliver next, or null
+
+
+        /**
+         * Constructs a new ConcurrentListIterator starting at the head.
+         */
+        public ConcurrentListIterator() {
+            _nextNode = advance(_head);
+        }
+
+
+        /**
+         * Returns true if this iterator has at least one more element
+         * to deliver in the iteration.
+         *
+         * @return true if this iterator has at least one more element
+         */
+        public boolean hasNext() {
+            return _nextNode != null;
+        }
+
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        public E next() {
+
+            if (_nextNode == null) {
+                throw new NoSuchElementException();
+            }
+
+            E value = _nextNode._value;
+            _nextNode = advance(_nextNode);
+
+            return value;
+        }
+
+
+        /**
+         * Find the first unmarked node after the given node.
+         *
+         * @param node the node to start after
+         * @return the next unmarked node, or null at the end of the list
+         */
+        private Node advance(Node node) {
+
+            Node next = node.next();
+
+            while (next != null && next.isMarked()) {
+                next = next.next();
+            }
+
+            return next;
+        }
+    }
+}
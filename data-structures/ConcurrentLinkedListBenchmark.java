@@ -0,0 +1,87 @@
+/**
+ * Benchmark of ConcurrentLinkedList against a LinkedList guarded by one
+ * global lock, at 1, 4, 16 and 64 threads. Run it with
+ *
+ *     java ConcurrentLinkedListBenchmark
+ *
+ * Each operation appends an element and then removes the first one, the
+ * pattern of worker threads sharing a list as a work list. Every round
+ * starts from a list of 1024 elements, so removals always find one.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see ConcurrentLinkedList
+ * @see ThroughputBenchmark
+ */
+public class ConcurrentLinkedListBenchmark {
+
+    private static final int OPERATIONS = 1 << 21;  // operations per round
+    private static final int INITIAL_SIZE = 1024;   // elements before a round
+
+
+    /**
+     * Prevents instances, everything is static.
+     */
+    private ConcurrentLinkedListBenchmark() {
+    }
+
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args not used
+     * @throws InterruptedException if interrupted while waiting for the
+     *         benchmark threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+
+        ThroughputBenchmark.compare(
+            "Append and remove first", OPERATIONS,
+            "locked", ConcurrentLinkedListBenchmark::lockedList,
+            (list, thread, i) -> {
+                synchronized (list) {
+                    list.add(i);
+                    list.remove(0);
+                }
+            },
+            "lock-free", ConcurrentLinkedListBenchmark::concurrentList,
+            (list, thread, i) -> {
+                list.add(i);
+                list.removeFirst();
+            });
+    }
+
+
+    /**
+     * Creates a LinkedList holding the initial elements.
+     *
+     * @return a new LinkedList
+     */
+    private static LinkedList<Integer> lockedList() {
+
+        LinkedList<Integer> list = new LinkedList<Integer>();
+
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+
+    /**
+     * Creates a ConcurrentLinkedList holding the initial elements.
+     *
+     * @return a new ConcurrentLinkedList
+     */
+    private static ConcurrentLinkedList<Integer> concurrentList() {
+
+        ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<Integer>();
+
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,381 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConcurrentQueue class is a first-in, first-out queue that any number of
+ * threads may enqueue to and dequeue from at once without locking. It is
+ * the queue of Michael and Scott: a singly-linked list of QueueNodes that
+ * always starts with a sentinel node, with compare-and-set on the front
+ * and rear references. A thread that finds the rear lagging behind the
+ * last node swings it forward before going on, so no thread ever waits
+ * for another.
+ *
+ * A dequeued sentinel has its next reference pointed back at itself, so
+ * a stale reference to it, held by a slow thread or an iterator, does not
+ * keep every later node reachable. A thread that reaches such a node
+ * starts again from the front.
+ *
+ * The depth is kept in a striped counter, so updating it does not make
+ * every thread contend on one word. It is exact only while no other thread
+ * is changing the queue. Iterators are weakly consistent and never throw
+ * ConcurrentModificationException. Null elements are not allowed, since
+ * dequeue uses null to report an empty queue.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see Queue
+ */
+public class ConcurrentQueue<E> implements Iterable<E> {
+
+    private final AtomicReference<QueueNode> _front;  // the sentinel node
+    private final AtomicReference<QueueNode> _rear;   // the last node or near it
+    private final LongAdder _size;                    // approximate size
+
+
+    /**
+     * Constructor for objects of class ConcurrentQueue
+     */
+    public ConcurrentQueue() {
+
+        // front and rear both start at the sentinel
+        QueueNode sentinel = new QueueNode(null);
+
+        this._front = new AtomicReference<QueueNode>(sentinel);
+        this._rear = new AtomicReference<QueueNode>(sentinel);
+        this._size = new LongAdder();
+    }
+
+
+    /**
+     * Method to add an item to the queue
+     *
+     * @param element the element to be added
+     *
+     * @return true if the element is added
+     *
+     * @throws NullPointerException if element is null
+     */
+    public boolean enqueue(E element) {
+
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        QueueNode newNode = new QueueNode(element);
+        boolean added = false;
+
+        while (!added) {
+
+            QueueNode rear = this._rear.get();
+            QueueNode next = rear.getNext();
+
+            if (next == null) {
+
+                // rear is the last node, try to link the new node after it
+                if (rear.casNext(null, newNode)) {
+
+                    // swing the rear, another thread will if this fails
+                    this._rear.compareAndSet(rear, newNode);
+                    added = true;
+                }
+
+            } else {
+
+                // the rear is lagging, help move it forward and retry
+                this._rear.compareAndSet(rear, next);
+            }
+        }
+
+        this._size.increment();
+
+        return added;
+    }
+
+
+    /**
+     * Enqueue all elements of an iterable into the queue.
+     *
+     * @param elements the elements to be enqueued
+     *
+     * @throws NullPointerException if any element is null
+     */
+    public void enqueueAll(Iterable<E> elements) {
+
+        for (E element : elements) {
+            enqueue(element);
+        }
+    }
+
+
+    /**
+     * Dequeue an element from the queue
+     *
+     * @return the element dequeued, or null if the queue is empty
+     */
+    public E dequeue() {
+
+        E dequeued = null;
+        boolean done = false;
+
+        while (!done) {
+
+            QueueNode front = this._front.get();
+            QueueNode rear = this._rear.get();
+            QueueNode first = front.getNext();
+
+            if (first == null) {
+
+                // only the sentinel is left, the queue is empty
+                done = true;
+
+            } else if (front == rear) {
+
+                // the rear still points at the sentinel, help move it
+                this._rear.compareAndSet(rear, first);
+
+            } else if (this._front.compareAndSet(front, first)) {
+
+                // first is the new sentinel, so take its element and drop
+                // the reference so the queue does not keep it alive
+                dequeued = first.getElement();
+                first.setElement(null);
+                front.linkToSelf();
+                this._size.decrement();
+                done = true;
+            }
+        }
+
+        return dequeued;
+    }
+
+
+    /**
+     * Returns the head of the queue.
+     *
+     * @return the head element of the queue
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E head() {
+
+        E head = null;
+
+        // the first node may be dequeued and emptied while we look, so
+        // skip forward until a node still holding an element is found
+        for (QueueNode node = successor(this._front.get());
+             node != null && head == null; node = successor(node)) {
+            head = node.getElement();
+        }
+
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+
+        return head;
+    }
+
+
+    /**
+     * Method to check if the queue is empty
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this._front.get().getNext() == null;
+    }
+
+
+    /**
+     * Method to get the size of the queue. The value is exact only when no
+     * other thread is changing the queue.
+     *
+     * @return the approximate size of the queue
+     */
+    public int depth() {
+        return (int) Math.max(0, Math.min(this._size.sum(), Integer.MAX_VALUE));
+    }
+
+
+    /**
+     * Create a weakly consistent iterator for the queue that walks from
+     * the front without dequeueing anything.
+     *
+     * @return an iterator for the queue
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentQueueIterator();
+    }
+
+
+    /**
+     * Returns the node after the given node, or the current sentinel if the
+     * given node has already been dequeued and linked to itself.
+     *
+     * @param node the node to step from
+     * @return the next node to look at, or null at the end of the queue
+     */
+    private QueueNode successor(QueueNode node) {
+
+        QueueNode next = node.getNext();
+
+        return (next == node) ? this._front.get() : next;
+    }
+
+
+    /**
+     * ConcurrentQueueIterator class walks the nodes from the front and
+     * skips nodes whose element has already been dequeued.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class ConcurrentQueueIterator implements Iterator<E> {
+
+        private QueueNode _current;  // node holding the next element
+        private E _nextElement;      // element read from _current
+
+
+        /**
+         * Constructs an iterator that starts at the front of the queue.
+         */
+        public ConcurrentQueueIterator() {
+            advance(_front.get());
+        }
+
+
+        /**
+         * Method to check if the iterator has a next element.
+         *
+         * @return true if the iterator has a next element, false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return this._nextElement != null;
+        }
+
+
+        /**
+         * Method to get the next element in the queue.
+         *
+         * @return the next element in the queue
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        @Override
+        public E next() {
+
+            if (this._nextElement == null) {
+                throw new NoSuchElementException();
+            }
+
+            E next = this._nextElement;
+            advance(this._current);
+
+            return next;
+        }
+
+
+        /**
+         * Move to the first node after the given node that still holds
+         * an element, and read that element.
+         *
+         * @param node the node to start after
+         */
+        private void advance(QueueNode node) {
+
+            this._current = successor(node);
+            this._nextElement = null;
+
+            while (this._current != null && this._nextElement == null) {
+
+                this._nextElement = this._current.getElement();
+
+                if (this._nextElement == null) {
+                    this._current = successor(this._current);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * QueueNode class which is a node for the queue. The next reference
+     * is changed from null to a node with compare-and-set, and from that
+     * node back to this node once this node is dequeued.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class QueueNode {
+
+        private volatile E _element;                     // element of the node
+        private final AtomicReference<QueueNode> _next;  // next node
+
+
+        /**
+         * Constructor for objects of class QueueNode
+         *
+         * @param element the element of the node
+         */
+        public QueueNode(E element) {
+            this._element = element;
+            this._next = new AtomicReference<QueueNode>();
+        }
+
+
+        /**
+         * Method to get the element of the node
+         *
+         * @return the element of the node
+         */
+        public E getElement() {
+            return this._element;
+        }
+
+
+        /**
+         * Method to set the element of the node
+         *
+         * @param element the element of the node
+         */
+        public void setElement(E element) {
+            this._element = element;
+        }
+
+
+        /**
+         * Method to get the next node
+         *
+         * @return the next node
+         */
+        public QueueNode getNext() {
+            return this._next.get();
+        }
+
+
+        /**
+         * Link next after this node if this node has no next node yet.
+         *
+         * @param expected the next node this node is expected to have
+         * @param next the node to link
+         * @return true if the link was made
+         */
+        public boolean casNext(QueueNode expected, QueueNode next) {
+            return this._next.compareAndSet(expected, next);
+        }
+
+
+        /**
+         * Point the next reference at this node, once this node has been
+         * dequeued, so it no longer keeps the rest of the queue reachable.
+         * The store need not be seen at once, since a thread that still
+         * sees the old link just follows it.
+         */
+        public void linkToSelf() {
+            this._next.lazySet(this);
+        }
+    }
+}
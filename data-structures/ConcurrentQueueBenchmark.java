@@ -0,0 +1,88 @@
+/**
+ * Benchmark of ConcurrentQueue against a Queue guarded by one global lock,
+ * at 1, 4, 16 and 64 threads. Run it with
+ *
+ *     java ConcurrentQueueBenchmark
+ *
+ * Every thread both produces and consumes: each operation enqueues an
+ * element and then dequeues one. Every round starts from a queue of 1024
+ * elements, so the front and rear nodes are far apart and producers and
+ * consumers contend on different ends.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see ConcurrentQueue
+ * @see ThroughputBenchmark
+ */
+public class ConcurrentQueueBenchmark {
+
+    private static final int OPERATIONS = 1 << 22;  // operations per round
+    private static final int INITIAL_DEPTH = 1024;  // elements before a round
+
+
+    /**
+     * Prevents instances, everything is static.
+     */
+    private ConcurrentQueueBenchmark() {
+    }
+
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args not used
+     * @throws InterruptedException if interrupted while waiting for the
+     *         benchmark threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+
+        ThroughputBenchmark.compare(
+            "Enqueue and dequeue", OPERATIONS,
+            "locked", ConcurrentQueueBenchmark::lockedQueue,
+            (queue, thread, i) -> {
+                synchronized (queue) {
+                    queue.enqueue(i);
+                    queue.dequeue();
+                }
+            },
+            "lock-free", ConcurrentQueueBenchmark::concurrentQueue,
+            (queue, thread, i) -> {
+                queue.enqueue(i);
+                queue.dequeue();
+            });
+    }
+
+
+    /**
+     * Creates a Queue holding the initial elements.
+     *
+     * @return a new Queue
+     */
+    private static Queue<Integer> lockedQueue() {
+
+        Queue<Integer> queue = new Queue<Integer>();
+
+        for (int i = 0; i < INITIAL_DEPTH; i++) {
+            queue.enqueue(i);
+        }
+
+        return queue;
+    }
+
+
+    /**
+     * Creates a ConcurrentQueue holding the initial elements.
+     *
+     * @return a new ConcurrentQueue
+     */
+    private static ConcurrentQueue<Integer> concurrentQueue() {
+
+        ConcurrentQueue<Integer> queue = new ConcurrentQueue<Integer>();
+
+        for (int i = 0; i < INITIAL_DEPTH; i++) {
+            queue.enqueue(i);
+        }
+
+        return queue;
+    }
+}
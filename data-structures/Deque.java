@@ -1,5 +1,6 @@
 import java.util.Iterator;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Class Deque (commonly pronounced “deck”) is adouble-ended queuebased on a
@@ -13,18 +14,44 @@ import java.util.*;
  */
 public class Deque<E> implements Iterable<E> {
 
-    private DequeNode _head;  // head of the deque
-    private DequeNode _tail;  // tail of the deque
-    private int _size;        // number of elements in the deque
+    private DequeNode _head;          // head of the deque
+    private DequeNode _tail;          // tail of the deque
+    private int _size;                // number of elements in the deque
+    private int _modCount;            // modification count
+    private DequeNode _freeNodes;     // recycled nodes, linked by next
+    private int _freeCount;           // number of recycled nodes
+    private final int _maxFreeNodes;  // most nodes kept for reuse
+    private long _nodesAllocated;     // nodes created with new
+    private long _nodesReused;        // nodes taken from the free list
 
 
     /**
      * Constructs an empty deque.
      */
     public Deque() {
+        this(0);
+    }
+
+
+    /**
+     * Constructs an empty deque that keeps up to maxFreeNodes dequeued
+     * nodes and reuses them for later enqueues instead of allocating new
+     * ones.
+     *
+     * @param maxFreeNodes the most dequeued nodes to keep, 0 to disable
+     *
+     * @throws IllegalArgumentException if maxFreeNodes is negative
+     */
+    public Deque(int maxFreeNodes) {
+
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+
         this._head = null;
         this._tail = null;
         this._size = 0;
+        this._maxFreeNodes = maxFreeNodes;
     }
 
 
@@ -38,6 +65,27 @@ public class Deque<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Returns the number of nodes this deque has allocated.
+     *
+     * @return the number of nodes created with new
+     */
+    public long nodesAllocated() {
+        return this._nodesAllocated;
+    }
+
+
+    /**
+     * Returns the number of nodes this deque has reused from its free list
+     * instead of allocating.
+     *
+     * @return the number of nodes taken from the free list
+     */
+    public long nodesReused() {
+        return this._nodesReused;
+    }
+
+
     /**
      * Returns true if the deque is empty.
      *
@@ -60,8 +108,8 @@ public class Deque<E> implements Iterable<E> {
         // whether the element is added
         boolean added = false;
 
-        // creates a new node
-        DequeNode newNode = new DequeNode(element);
+        // creates a new node, reusing a recycled one if there is one
+        DequeNode newNode = obtainNode(element);
 
         // checks if the deque is empty
         if (this._head == null) {
@@ -88,6 +136,8 @@ public class Deque<E> implements Iterable<E> {
         // successfully added element to the queue
         added = true;
 
+        this._modCount++;
+
         // returns whether the element is added
         return added;
 
@@ -122,8 +172,8 @@ public class Deque<E> implements Iterable<E> {
         // whether the element is added
         boolean added = false;
 
-        // creates a new node
-        DequeNode newNode = new DequeNode(element);
+        // creates a new node, reusing a recycled one if there is one
+        DequeNode newNode = obtainNode(element);
 
         // checks if the deque is empty
         if (this._head == null) {
@@ -149,6 +199,7 @@ public class Deque<E> implements Iterable<E> {
 
         // successfully added element to the queue
         added = true;
+        this._modCount++;
 
         // returns whether the element is added
         return added;
@@ -207,11 +258,14 @@ public class Deque<E> implements Iterable<E> {
         // the element removed from the queue
         E element = null;
 
+        // the node being removed
+        DequeNode head = this._head;
+
         // sets the element to the head of the deque
-        element = this._head.getValue();
+        element = head.getValue();
 
         // removes the head of the deque
-        this._head = this._head.getNext();
+        this._head = head.getNext();
 
         // checks if the new head is null
         if (this._head == null) {
@@ -228,6 +282,10 @@ public class Deque<E> implements Iterable<E> {
         // updates size to current state
         this._size--;
 
+        // hands the node back for reuse
+        recycleNode(head);
+        this._modCount++;
+
         // returns the element removed from the queue
         return element;
     }
@@ -243,11 +301,14 @@ public class Deque<E> implements Iterable<E> {
         // the element removed from the queue
         E element = null;
 
+        // the node being removed
+        DequeNode tail = this._tail;
+
         // sets the element to the tail of the deque
-        element = this._tail.getValue();
+        element = tail.getValue();
 
         // removes the tail of the deque
-        this._tail = this._tail.getPrev();
+        this._tail = tail.getPrev();
 
         // checks if the new tail is null
         if (this._tail == null) {
@@ -264,6 +325,10 @@ public class Deque<E> implements Iterable<E> {
         // updates size to current state
         this._size--;
 
+        // hands the node back for reuse
+        recycleNode(tail);
+        this._modCount++;
+
         // returns the element removed from the queue
         return element;
     }
@@ -280,11 +345,97 @@ public class Deque<E> implements Iterable<E> {
 
         // updates size to current state
         this._size = 0;
+        this._modCount++;
+    }
+
+
+    /**
+     * Remove up to max elements from the head of the deque, in the order
+     * dequeue would return them, and hand each one to consumer. This is
+     * the explicit way to empty the deque; iterating over it does not.
+     *
+     * @param consumer receives each removed element
+     * @param max the most elements to remove
+     * @return the number of elements removed
+     *
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int drainTo(Consumer<? super E> consumer, int max) {
+
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int drained = 0;
+
+        while (drained < max && !isEmpty()) {
+            consumer.accept(dequeue());
+            drained++;
+        }
+
+        return drained;
     }
 
 
     /**
-     * Create an iterator over the elements in the deque.
+     * Take a node from the free list, or allocate one if the free list
+     * is empty, and store element in it.
+     *
+     * @param element the element to be stored
+     * @return a node holding element with no neighbours
+     */
+    private DequeNode obtainNode(E element) {
+
+        DequeNode node = this._freeNodes;
+
+        if (node == null) {
+
+            // nothing to reuse, allocate a new node
+            node = new DequeNode(element);
+            this._nodesAllocated++;
+
+        } else {
+
+            // pop the node off the free list
+            this._freeNodes = node.getNext();
+            this._freeCount--;
+            this._nodesReused++;
+
+            node.setNext(null);
+            node.setPrev(null);
+            node.setValue(element);
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Put a node that has been dequeued on the free list if there is
+     * room for it.
+     *
+     * @param node the node to be recycled
+     */
+    private void recycleNode(DequeNode node) {
+
+        if (this._freeCount < this._maxFreeNodes) {
+
+            // drop the element and old neighbour so the free list does
+            // not keep them alive
+            node.setValue(null);
+            node.setPrev(null);
+
+            // push the node onto the free list
+            node.setNext(this._freeNodes);
+            this._freeNodes = node;
+            this._freeCount++;
+        }
+    }
+
+
+    /**
+     * Create an iterator over the elements in the deque, from head to
+     * tail, that does not dequeue anything.
      *
      * @return an iterator over the elements in the deque
      */
@@ -295,7 +446,8 @@ public class Deque<E> implements Iterable<E> {
 
 
     /**
-     * Create a reverse iterator over the elements in the deque.
+     * Create a reverse iterator over the elements in the deque, from tail
+     * to head, that does not dequeue anything.
      *
      * @return a reverse iterator over the elements in the deque
      */
@@ -339,6 +491,16 @@ public class Deque<E> implements Iterable<E> {
         }
 
 
+        /**
+         * Sets the value of the node.
+         *
+         * @param value the value of the node
+         */
+        public void setValue(E value) {
+            _value = value;
+        }
+
+
         /**
          * Returns the next node in the deque.
          *
@@ -381,30 +543,28 @@ public class Deque<E> implements Iterable<E> {
 
 
     /**
-     * DequeNode is a class that represents a node in a deque.
+     * DequeIterator follows the next references from the head, or the
+     * previous references from the tail, and leaves the deque unchanged.
      *
      * @author hzhu20@georgefox.edu
      * @version 1.0
      */
     private class DequeIterator implements Iterator<E> {
 
-        private DequeNode _current;  // current node in the deque
-        private boolean _reverse;    // tracks if the iterator is reversed
+        private DequeNode _current;     // node holding the next element
+        private boolean _reverse;       // tracks if the iterator is reversed
+        private int _expectedModCount;  // tracking deque changes
 
 
         /**
          * Constructs an iterator for the given deque.
+         *
+         * @param reverse true to iterate from the tail to the head
          */
         public DequeIterator(boolean reverse) {
-
-            if (reverse) {
-                this._current = _tail;
-                this._reverse = true;
-
-            } else {
-                this._current = _head;
-                this._reverse = false;
-            }
+            this._current = reverse ? _tail : _head;
+            this._reverse = reverse;
+            this._expectedModCount = _modCount;
         }
 
 
@@ -412,10 +572,17 @@ public class Deque<E> implements Iterable<E> {
          * Checks if there is a next element in the deque.
          *
          * @return true if there is a next element in the deque, false otherwise
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            return !isEmpty();
+
+            if (this._expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return this._current != null;
         }
 
 
@@ -425,38 +592,19 @@ public class Deque<E> implements Iterable<E> {
          * @return the next element in the deque
          *
          * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public E next() {
 
-            // checks if there is a next element in the deque
-            if (this._current == null) {
-
-                // throws exception if there is no next element in the deque
+            if (!hasNext()) {
                 throw new NoSuchElementException();
             }
 
-            // the next element in the deque
-            E element = null;
-
-            if (hasNext()) {
-                if (this._reverse) {
-
-                    // sets the element to the current node
-                    element = _tail.getValue();
-
-                    // dequeue the current node
-                    dequeue();
-
-                } else {
-
-                    // sets the element to the current node
-                    element = _head.getValue();
-
-                    // dequeue the current node
-                    dequeueTail();
-                }
-            }
+            // take the current element and step towards the other end
+            E element = this._current.getValue();
+            this._current = this._reverse ? this._current.getPrev()
+                                          : this._current.getNext();
 
             return element;
         }
@@ -0,0 +1,493 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Resizable array of primitive double values. Mirrors ArrayList, but stores
+ * the elements unboxed in a double[] so that each element costs 8 bytes
+ * instead of a reference plus a Double object.
+ *
+ * @author hzhu20@georgefox.edu
+ * @see ArrayList
+ */
+public class DoubleArrayList implements Iterable<Double>
+{
+    // Constants
+
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8; // max capacity
+    private static final int DEFAULT_LENGTH_ARRAY = 10; // default capacity
+
+    // Internal State
+
+    private double[] _values; // backing array
+    private int _size; // size of claimed space in the array
+
+
+    /**
+     * Constructor that creates a DoubleArrayList with the given initial
+     * capacity.
+     *
+     * @param initialCapacity the initial capacity of the DoubleArrayList
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    public DoubleArrayList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Capacity needs to be at least 1.");
+        }
+
+        this._values = new double[initialCapacity];
+        this._size = 0;
+    }
+
+
+    /**
+     * Constructor that creates an empty DoubleArrayList with default capacity
+     * of 10.
+     */
+    public DoubleArrayList()
+    {
+        this(DEFAULT_LENGTH_ARRAY);
+    }
+
+
+    /**
+     * Returns the size of the DoubleArrayList.
+     *
+     * @return the size of the DoubleArrayList
+     */
+    public int size()
+    {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if the DoubleArrayList is empty, false otherwise.
+     *
+     * @return true if the DoubleArrayList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns element at the specified index.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public double get(int index)
+    {
+        checkRange(index);
+        return getValues()[index];
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element,
+     * stopping as soon as it is found. The backing array and size are read
+     * into locals so the JIT can drop the per-element bounds checks.
+     * Elements are compared by their bit patterns, the same way
+     * Double.equals does, so NaN can be found and 0.0 and -0.0 are treated
+     * as different values.
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public int indexOf(double element)
+    {
+        double[] values = getValues();
+        int size = this.size();
+        long bits = Double.doubleToLongBits(element);
+        int index = -1;
+
+        for (int i = 0; i < size; i++)
+        {
+            if (Double.doubleToLongBits(values[i]) == bits)
+            {
+                index = i;
+                break;
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns the index of the last occurrence of the specified element,
+     * scanning backwards from the end of the DoubleArrayList.
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public int lastIndexOf(double element)
+    {
+        double[] values = getValues();
+        long bits = Double.doubleToLongBits(element);
+        int index = -1;
+
+        for (int i = this.size() - 1; i >= 0; i--)
+        {
+            if (Double.doubleToLongBits(values[i]) == bits)
+            {
+                index = i;
+                break;
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns true if the DoubleArrayList contains the specified element,
+     * false otherwise.
+     *
+     * @param element the element to check for
+     * @return true if the DoubleArrayList contains the specified element,
+     *         false otherwise
+     */
+    public boolean contains(double element)
+    {
+        return indexOf(element) >= 0;
+    }
+
+
+    /**
+     * Searches the DoubleArrayList for the specified element using binary
+     * search. The DoubleArrayList must already be sorted in ascending order,
+     * otherwise the result is undefined.
+     * Unlike indexOf, the search orders values the way Double.compare
+     * does.
+     *
+     * @param element the element to search for
+     * @return the index of the element if found, otherwise
+     *         (-(insertion point) - 1)
+     * @see Arrays#binarySearch(double[], int, int, double)
+     */
+    public int binarySearch(double element)
+    {
+        return Arrays.binarySearch(getValues(), 0, size(), element);
+    }
+
+
+    /**
+     * Appends the specified element to the end of the DoubleArrayList.
+     *
+     * @param element the element to add
+     * @return true if the element was added
+     */
+    public boolean add(double element)
+    {
+        checkCapacityNeeded(this._size + 1);
+
+        getValues()[this._size++] = element;
+
+        return true;
+    }
+
+
+    /**
+     * Adds the specified element at the specified index.
+     *
+     * @param index the index to add the element at
+     * @param element the element to add
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(int index, double element)
+    {
+        checkIndex(index);
+        checkCapacityNeeded(this._size + 1);
+
+        System.arraycopy(getValues(), index, getValues(), index + 1,
+                         size() - index);
+
+        getValues()[index] = element;
+        this._size++;
+    }
+
+
+    /**
+     * Appends all of the given elements to the end of the DoubleArrayList,
+     * growing the backing array at most once.
+     *
+     * @param elements the elements to add
+     * @return true if the DoubleArrayList changed as a result of the call
+     */
+    public boolean addAll(double[] elements)
+    {
+        checkCapacityNeeded(this._size + elements.length);
+
+        System.arraycopy(elements, 0, getValues(), this._size,
+                         elements.length);
+        this._size += elements.length;
+
+        return elements.length > 0;
+    }
+
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public double remove(int index)
+    {
+        checkRange(index);
+
+        double remElement = getValues()[index];
+
+        System.arraycopy(getValues(), index + 1, getValues(), index,
+                         size() - index - 1);
+
+        this._size--;
+
+        return remElement;
+    }
+
+
+    /**
+     * Sets the size to 0. The backing array holds no references, so it
+     * does not need to be cleared.
+     */
+    public void clear()
+    {
+        this._size = 0;
+    }
+
+
+    /**
+     * Returns the old element at the specified index and replaces it with the
+     * new specified element.
+     *
+     * @param index the index to find the position to set the specified element
+     * @param element the element to set at the specified index
+     *
+     * @return the previous element at the specified index
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public double set(int index, double element)
+    {
+        checkRange(index);
+
+        double prevElement = getValues()[index];
+        getValues()[index] = element;
+
+        return prevElement;
+    }
+
+
+    /**
+     * Returns a copy of the elements in the DoubleArrayList.
+     *
+     * @return a new array holding the elements in order
+     */
+    public double[] toArray()
+    {
+        return Arrays.copyOf(getValues(), size());
+    }
+
+
+    /**
+     * Returns the backing array of the DoubleArrayList.
+     *
+     * @return the backing array of the DoubleArrayList
+     */
+    private double[] getValues()
+    {
+        return this._values;
+    }
+
+
+    /**
+     * Returns the capacity of the DoubleArrayList.
+     *
+     * @return the capacity of the DoubleArrayList
+     */
+    private int currCapacity()
+    {
+        return getValues().length;
+    }
+
+
+    /**
+     * Checks the index is greater than the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index > this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid Index: %d", index));
+        }
+    }
+
+
+    /**
+     * Checks the index is greater than or equal to the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkRange(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+    }
+
+
+    /**
+     * Grows capacity if necessary for the array
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity)
+    {
+        int currCapacity = currCapacity();
+        int newCapacity = currCapacity * 2;
+
+        if (newCapacity - minCapacity < 0)
+        {
+            newCapacity = minCapacity;
+        }
+
+        if (newCapacity - MAX_ELEMENTS > 0)
+        {
+            newCapacity = overloadedArray(minCapacity);
+        }
+
+        this._values = Arrays.copyOf(getValues(), newCapacity);
+    }
+
+
+    /**
+     * Returns max element size
+     *
+     * @param minCapacity the minimum capacity to make the array bigger
+     * @return the maximum element size for the array
+     */
+    private int overloadedArray(int minCapacity)
+    {
+        if (minCapacity < 0) // overflow
+        {
+            throw new OutOfMemoryError("Overflow");
+        }
+
+        return (minCapacity > MAX_ELEMENTS) ? Integer.MAX_VALUE : MAX_ELEMENTS;
+    }
+
+
+    /**
+     * Ensures the array has enough capacity
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void checkCapacityNeeded(int minCapacity)
+    {
+        if (size() == 0)
+        {
+            minCapacity = Math.max(DEFAULT_LENGTH_ARRAY, minCapacity);
+        }
+
+        checkCurrentCapacity(minCapacity);
+    }
+
+
+    /**
+     * Checks current capacity if large enough, otherwise grows
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void checkCurrentCapacity(int minCapacity)
+    {
+        if (minCapacity - currCapacity() > 0)
+        {
+            grow(minCapacity);
+        }
+    }
+
+
+    /**
+     * Returns new DoubleArrayListIterator
+     *
+     * @return new DoubleArrayListIterator
+     * @see DoubleArrayListIterator
+     * @see PrimitiveIterator.OfDouble
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator()
+    {
+        return new DoubleArrayListIterator();
+    }
+
+
+    /**
+     * DoubleArrayListIterator implementing PrimitiveIterator.OfDouble so callers
+     * can read elements through nextDouble() without boxing.
+     *
+     * @author hzhu20@georgefox.edu
+     *
+     * @see PrimitiveIterator.OfDouble
+     * @see DoubleArrayList
+     */
+    private class DoubleArrayListIterator implements PrimitiveIterator.OfDouble
+    {
+        // current index points to the next element to be returned
+        private int _index;
+
+
+        /**
+         * Constructs a DoubleArrayListIterator
+         */
+        public DoubleArrayListIterator()
+        {
+            this._index = 0;
+        }
+
+
+        /**
+         * Returns true if the DoubleArrayListIterator has a next element, false
+         * otherwise.
+         *
+         * @return true if the DoubleArrayListIterator has a next element, false
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return _index < size();
+        }
+
+
+        /**
+         * Returns the next element in the DoubleArrayListIterator.
+         *
+         * @return the next element in the DoubleArrayListIterator
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        @Override
+        public double nextDouble()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            return _values[_index++];
+        }
+    }
+}
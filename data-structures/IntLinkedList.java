@@ -0,0 +1,642 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Class IntLinkedList is a doubly-linked list of primitive int values that
+ * can also be used as a deque. Instead of a node object per element, each
+ * element lives in a slot of three parallel arrays holding its value and
+ * the slots of its next and previous elements, so an element costs 12
+ * bytes rather than a node header, three references and a boxed Integer.
+ *
+ * Slots freed by a removal are kept on a free list, linked through the
+ * next array, and are reused by later insertions. Insertion and removal at
+ * either end or through an iterator are constant time.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see LinkedList
+ * @see Deque
+ */
+public class IntLinkedList implements Iterable<Integer> {
+
+    private static final int NIL = -1;                              // no slot
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8;  // max slots
+    private static final int DEFAULT_CAPACITY = 10;                 // default
+
+    private int[] _values;     // value held in each slot
+    private int[] _next;       // slot of the next element, or free slot
+    private int[] _prev;       // slot of the previous element
+    private int _head;         // slot of the first element
+    private int _tail;         // slot of the last element
+    private int _size;         // number of elements
+    private int _modCount;     // modification count
+    private int _freeSlots;    // first free slot, linked by next
+    private int _slotsUsed;    // slots handed out at least once
+
+
+    /**
+     * Constructs an empty list with room for 10 elements.
+     */
+    public IntLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty list with room for the given number of elements
+     * before the slot arrays have to grow.
+     *
+     * @param initialCapacity the number of slots to start with
+     *
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntLinkedList(int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        _values = new int[initialCapacity];
+        _next = new int[initialCapacity];
+        _prev = new int[initialCapacity];
+        _head = NIL;
+        _tail = NIL;
+        _size = 0;
+        _freeSlots = NIL;
+        _slotsUsed = 0;
+    }
+
+
+    /**
+     * Append an element at the tail of the list.
+     *
+     * @param element the element to be appended
+     * @return true if the element is added
+     */
+    public boolean add(int element) {
+        linkBefore(element, NIL);
+        return true;
+    }
+
+
+    /**
+     * Insert an element into the list at the specified index.
+     *
+     * @param index the index at which the element is to be inserted
+     * @param element the element to be inserted
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(int index, int element) {
+
+        // the index may be anywhere from the head up to just past the tail
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        linkBefore(element, (index == _size) ? NIL : seek(index));
+    }
+
+
+    /**
+     * Remove the element at the specified index.
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public int remove(int index) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        return unlink(seek(index));
+    }
+
+
+    /**
+     * Get the element at the specified index.
+     *
+     * @param index the index of the element to be returned
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public int get(int index) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        return _values[seek(index)];
+    }
+
+
+    /**
+     * Set the element at the specified index.
+     *
+     * @param index the index of the element to be set
+     * @param element the element to be set
+     * @return the element that was replaced
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public int set(int index, int element) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        int slot = seek(index);
+        int oldElement = _values[slot];
+
+        _values[slot] = element;
+
+        return oldElement;
+    }
+
+
+    /**
+     * Add an element at the tail of the deque.
+     *
+     * @param element the element to be added
+     * @return true if the element is added
+     */
+    public boolean enqueue(int element) {
+        return add(element);
+    }
+
+
+    /**
+     * Add an element at the head of the deque.
+     *
+     * @param element the element to be added
+     * @return true if the element is added
+     */
+    public boolean enqueueHead(int element) {
+        linkBefore(element, _head);
+        return true;
+    }
+
+
+    /**
+     * Returns the element at the head of the deque.
+     *
+     * @return the element at the head of the deque
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public int head() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return _values[_head];
+    }
+
+
+    /**
+     * Returns the element at the tail of the deque.
+     *
+     * @return the element at the tail of the deque
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public int tail() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return _values[_tail];
+    }
+
+
+    /**
+     * Remove and return the element at the head of the deque.
+     *
+     * @return the element removed from the head
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public int dequeue() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return unlink(_head);
+    }
+
+
+    /**
+     * Remove and return the element at the tail of the deque.
+     *
+     * @return the element removed from the tail
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public int dequeueTail() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return unlink(_tail);
+    }
+
+
+    /**
+     * Clears the list of all elements, reseting the size to 0. The slot
+     * arrays are kept for reuse.
+     */
+    public void clear() {
+
+        // every slot is fresh again
+        _head = NIL;
+        _tail = NIL;
+        _freeSlots = NIL;
+        _slotsUsed = 0;
+
+        // reset the size and update the modification count
+        _size = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns the number of slots the list can hold before growing.
+     *
+     * @return the length of the slot arrays
+     */
+    public int capacity() {
+        return _values.length;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the element, or -1 if
+     * this list does not contain the element.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of the element in this
+     *         list, or -1 if this list does not contain the element
+     */
+    public int indexOf(int element) {
+
+        // index is negative if element is not found
+        int index = -1;
+        int i = 0;
+
+        for (int slot = _head; slot != NIL && index == -1; slot = _next[slot]) {
+
+            if (_values[slot] == element) {
+                index = i;
+            }
+
+            i++;
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns true if this list contains the element.
+     *
+     * @param element the element to be searched for
+     * @return true if this list contains the element
+     */
+    public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+
+    /**
+     * Returns the elements of this list in order in a new array.
+     *
+     * @return a new array holding the elements of this list
+     */
+    public int[] toArray() {
+
+        int[] array = new int[_size];
+        int i = 0;
+
+        for (int slot = _head; slot != NIL; slot = _next[slot]) {
+            array[i++] = _values[slot];
+        }
+
+        return array;
+    }
+
+
+    /**
+     * Creates a new IntLinkedListIterator that iterates over this list.
+     *
+     * @return a new IntLinkedListIterator that iterates over this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntLinkedListIterator(false);
+    }
+
+
+    /**
+     * Creates a new IntLinkedListIterator that iterates over this list in
+     * reverse.
+     *
+     * @return a new IntLinkedListIterator that iterates over this list in
+     *         reverse
+     */
+    public PrimitiveIterator.OfInt reverseIterator() {
+        return new IntLinkedListIterator(true);
+    }
+
+
+    /**
+     * Checks the index to see if index is less than 0 or greater than
+     * or equal to the size.
+     *
+     * @param index the index to be checked
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    private void checkRange(int index) {
+
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    /**
+     * Find the slot of the element at index, walking from whichever end
+     * is closer.
+     *
+     * @param index the index to be found, which must be in range
+     * @return the slot of the element at the index
+     */
+    private int seek(int index) {
+
+        int slot;
+
+        if (index < _size / 2) {
+
+            slot = _head;
+
+            for (int i = 0; i < index; i++) {
+                slot = _next[slot];
+            }
+
+        } else {
+
+            slot = _tail;
+
+            for (int i = _size - 1; i > index; i--) {
+                slot = _prev[slot];
+            }
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Link a new element in front of the successor slot, or at the tail
+     * if successor is NIL.
+     *
+     * @param element the element to be inserted
+     * @param successor the slot the new element goes in front of
+     */
+    private void linkBefore(int element, int successor) {
+
+        // take the slot first, since growing replaces the arrays
+        int slot = obtainSlot();
+        int previous = (successor == NIL) ? _tail : _prev[successor];
+
+        _values[slot] = element;
+        _prev[slot] = previous;
+        _next[slot] = successor;
+
+        // hook the new slot into its previous slot, or make it the head
+        if (previous == NIL) {
+            _head = slot;
+        } else {
+            _next[previous] = slot;
+        }
+
+        // hook the new slot into its successor, or make it the tail
+        if (successor == NIL) {
+            _tail = slot;
+        } else {
+            _prev[successor] = slot;
+        }
+
+        // update the size and modification count
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Unlink the element in the given slot and free the slot.
+     *
+     * @param slot the slot to be removed
+     * @return the element that was in the slot
+     */
+    private int unlink(int slot) {
+
+        int previous = _prev[slot];
+        int next = _next[slot];
+
+        // bypass the slot going forward, or move the head past it
+        if (previous == NIL) {
+            _head = next;
+        } else {
+            _next[previous] = next;
+        }
+
+        // bypass the slot going backward, or move the tail before it
+        if (next == NIL) {
+            _tail = previous;
+        } else {
+            _prev[next] = previous;
+        }
+
+        // push the slot onto the free list
+        _next[slot] = _freeSlots;
+        _freeSlots = slot;
+
+        // update the size and modification count
+        _size--;
+        _modCount++;
+
+        return _values[slot];
+    }
+
+
+    /**
+     * Take a slot from the free list, or a fresh slot if the free list is
+     * empty, growing the arrays if every slot is in use.
+     *
+     * @return an unused slot
+     */
+    private int obtainSlot() {
+
+        int slot = _freeSlots;
+
+        if (slot != NIL) {
+
+            // pop the slot off the free list
+            _freeSlots = _next[slot];
+
+        } else {
+
+            if (_slotsUsed == _values.length) {
+                grow();
+            }
+
+            slot = _slotsUsed++;
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Double the length of the slot arrays.
+     */
+    private void grow() {
+
+        int currCapacity = _values.length;
+
+        if (currCapacity >= MAX_ELEMENTS) {
+            throw new OutOfMemoryError("Overflow");
+        }
+
+        int newCapacity = (int) Math.min(
+            Math.max((long) currCapacity * 2, DEFAULT_CAPACITY), MAX_ELEMENTS);
+
+        _values = Arrays.copyOf(_values, newCapacity);
+        _next = Arrays.copyOf(_next, newCapacity);
+        _prev = Arrays.copyOf(_prev, newCapacity);
+    }
+
+
+    /**
+     * IntLinkedListIterator class walks the slots forward or backward and
+     * can remove the element it last returned in constant time.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class IntLinkedListIterator implements PrimitiveIterator.OfInt {
+
+        private int _nextSlot;          // slot of the next element
+        private int _lastReturned;      // slot to remove, or NIL
+        private boolean _reverse;       // reverse iteration order
+        private int _expectedModCount;  // tracking list changes
+
+
+        /**
+         * Constructs a new IntLinkedListIterator that starts at the head of
+         * the list, or at the tail if reverse is true.
+         *
+         * @param reverse true if the iterator should start at the tail
+         */
+        public IntLinkedListIterator(boolean reverse) {
+            _reverse = reverse;
+            _nextSlot = reverse ? _tail : _head;
+            _lastReturned = NIL;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if this iterator has at least one more element
+         * to deliver in the iteration.
+         *
+         * @return true if this iterator has at least one more element
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return _nextSlot != NIL;
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving forward or
+         * backward depending on the type of iterator.
+         *
+         * @return the next element in the iteration
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public int nextInt() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            _lastReturned = _nextSlot;
+            _nextSlot = _reverse ? _prev[_nextSlot] : _next[_nextSlot];
+
+            return _values[_lastReturned];
+        }
+
+
+        /**
+         * Removes the element last returned by nextInt().
+         *
+         * @throws IllegalStateException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (_lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+
+            unlink(_lastReturned);
+
+            _lastReturned = NIL;
+            _expectedModCount = _modCount;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * Class LinkedList of type E is a doubly-linkedlist of LinkedListNode of E,
@@ -11,25 +15,76 @@ import java.util.NoSuchElementException;
  * implementing the Iterable interface. Each node should internally maintain
  * previous and next nodes.
  *
+ * An indexed list also keeps a hash index from each element to the nodes
+ * holding it, which makes contains and removeFirstOccurrence constant
+ * time for elements that occur once, and keeps removing any node constant
+ * time even when its element occurs many times. Elements must not be
+ * mutated in a way that changes their hashCode while they are in an
+ * indexed list.
+ *
  * @author hzhu20@georgefox.edu
  * @version 1.0
  * @since 2021-10-29
  */
 public class LinkedList<E> implements Iterable<E> {
 
-    private LinkedListNode<E> _head;  // first node of first element
-    private LinkedListNode<E> _tail;  // last node of last element
-    private int _size;                // number of nodes
-    private int _modCount;            // modification count
+    private LinkedListNode<E> _head;       // first node of first element
+    private LinkedListNode<E> _tail;       // last node of last element
+    private int _size;                     // number of nodes
+    private int _modCount;                 // modification count
+    private LinkedListNode<E> _finger;     // last node reached by a seek
+    private int _fingerIndex;              // index of the finger node
+    private int _fingerModCount;           // modification count at the seek
+    private LinkedListNode<E> _freeNodes;  // recycled nodes, linked by next
+    private int _freeCount;                // number of recycled nodes
+    private final int _maxFreeNodes;       // most nodes kept for reuse
+    private long _nodesAllocated;          // nodes created with new
+    private long _nodesReused;             // nodes taken from the free list
+    private final HashMap<E, IndexEntry> _index;  // element to node, or null
 
 
     /**
      * Constructs an empty list.
      */
     public LinkedList() {
+        this(0);
+    }
+
+
+    /**
+     * Constructs an empty list that keeps up to maxFreeNodes removed nodes
+     * and reuses them for later insertions instead of allocating new ones.
+     *
+     * @param maxFreeNodes the most removed nodes to keep, 0 to disable
+     *
+     * @throws IllegalArgumentException if maxFreeNodes is negative
+     */
+    public LinkedList(int maxFreeNodes) {
+        this(maxFreeNodes, false);
+    }
+
+
+    /**
+     * Constructs an empty list that pools up to maxFreeNodes removed nodes
+     * and, if indexed is true, keeps a hash index from each element to
+     * its node.
+     *
+     * @param maxFreeNodes the most removed nodes to keep, 0 to disable
+     * @param indexed true to keep an element to node index
+     *
+     * @throws IllegalArgumentException if maxFreeNodes is negative
+     */
+    public LinkedList(int maxFreeNodes, boolean indexed) {
+
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+
         _head = null;
         _tail = null;
         _size = 0;
+        _maxFreeNodes = maxFreeNodes;
+        _index = indexed ? new HashMap<E, IndexEntry>() : null;
     }
 
 
@@ -43,7 +98,7 @@ public class LinkedList<E> implements Iterable<E> {
         boolean added = false;
 
         // create new node and add to end of list
-        final LinkedListNode<E> newNode = new LinkedListNode<E>(element);
+        final LinkedListNode<E> newNode = obtainNode(element);
 
         // if list is empty, set head & tail to new node, otherwise add to end
         if (isEmpty()) {
@@ -52,9 +107,6 @@ public class LinkedList<E> implements Iterable<E> {
             _head = newNode;
             _tail = newNode;
 
-            // update next node of head to _tail
-            _head.setNext(_tail);
-
         } else {
 
             // set new node's next to tail
@@ -91,17 +143,17 @@ public class LinkedList<E> implements Iterable<E> {
      */
     public void add(int index, E element) {
 
+        // check if index is less than 0 or greater than size
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
         // Create a new node with given data
-        LinkedListNode<E> newNode = new LinkedListNode<E>(element);
+        LinkedListNode<E> newNode = obtainNode(element);
 
         // If the Linked List is empty, then set new node as head
         if (isEmpty()) {
 
-            // check if index is less than 0 or greater than size
-            if (index < 0 || index > this.size()) {
-                throw new IndexOutOfBoundsException();
-            }
-
             // set head and tail to new node
             _head = newNode;
             _tail = newNode;
@@ -112,11 +164,6 @@ public class LinkedList<E> implements Iterable<E> {
 
         } else {
 
-            // if index is out of range, throw exception
-            if (index < 0 || index > this.size()) {
-                throw new IndexOutOfBoundsException();
-            }
-
             if (index == 0) {
 
                 // temporary node to store head
@@ -147,25 +194,9 @@ public class LinkedList<E> implements Iterable<E> {
 
             } else {
 
-                // temporary nodes to store previous and current nodes
-                LinkedListNode<E> current = _head;
-                LinkedListNode<E> previous = _head;
-
-                // declare a counter
-                int counter = 0;
-
-                // loop through list until index is reached
-                while (counter < index) {
-
-                    // set previous to current
-                    previous = current;
-
-                    // set current to next
-                    current = current.getNext();
-                    
-                    // increment to propogaate through list
-                    counter++;
-                }
+                // find the node at the index and the node before it
+                LinkedListNode<E> current = SetIterateCurrentsForGet(index);
+                LinkedListNode<E> previous = current.getPrevious();
 
                 // set new node to previous's next
                 previous.setNext(newNode);
@@ -197,68 +228,306 @@ public class LinkedList<E> implements Iterable<E> {
      */
     public E remove(int index) {
 
-        // temporary variable to store removed element
-        E element = null;
+        // if index is out of bounds, throw exception
+        checkRange(index);
 
-        // check if list is empty
-        if (isEmpty()) {
+        // find the node, which is constant time at the head and tail, and
+        // unlink it, updating the size and the modification count
+        return unlink(SetIterateCurrentsForGet(index));
+    }
+
+
+    /**
+     * Move every node of other onto the tail of this list by relinking,
+     * leaving other empty. Runs in constant time.
+     *
+     * @param other the list whose nodes are appended
+     *
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void append(LinkedList<E> other) {
+        spliceInto(this.size(), other);
+    }
+
+
+    /**
+     * Move every node of other into this list in front of the element at
+     * the specified index by relinking, leaving other empty. Only the
+     * walk to the index is needed, and none at either end. An indexed list
+     * also has to index each moved node.
+     *
+     * @param index the index the first node of other ends up at
+     * @param other the list whose nodes are spliced in
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void spliceInto(int index, LinkedList<E> other) {
 
-            // throw exception if index is out of range
+        // a list cannot be spliced into itself
+        if (other == this) {
+            throw new IllegalArgumentException();
+        }
+
+        // the index may be anywhere from the head up to just past the tail
+        if (index < 0 || index > this.size()) {
             throw new IndexOutOfBoundsException();
+        }
 
-        } else {
+        // nothing to move from an empty list
+        if (!other.isEmpty()) {
 
-            if (index == 0) {
+            // this list's index now covers the moved nodes
+            for (LinkedListNode<E> node = other._head; node != null;
+                 node = node.getNext()) {
+                indexNode(node);
+            }
 
-                // store head's element
-                element = _head.getValue();
+            // the nodes go between previous and successor
+            LinkedListNode<E> successor =
+                (index == this.size()) ? null : SetIterateCurrentsForGet(index);
+            LinkedListNode<E> previous =
+                (successor == null) ? _tail : successor.getPrevious();
 
-                // set head to next node
-                _head = _head.getNext();
+            // hook the first node of other after previous
+            other._head.setPrevious(previous);
 
-                // checks if removing the head was the last node
-                if (_head != null) {
-                    _head.setPrevious(null);
-                }
+            if (previous == null) {
+                _head = other._head;
+            } else {
+                previous.setNext(other._head);
+            }
+
+            // hook the last node of other in front of successor
+            other._tail.setNext(successor);
+
+            if (successor == null) {
+                _tail = other._tail;
+            } else {
+                successor.setPrevious(other._tail);
+            }
+
+            // update the size and modification count of this list
+            _size += other._size;
+            _modCount++;
+
+            // other no longer owns any nodes
+            other.detachAll();
+        }
+    }
+
+
+    /**
+     * Split this list in two at the specified index. This list keeps the
+     * elements before the index and the rest are moved, without copying,
+     * to the returned list. Only the walk to the index is needed, except
+     * that an indexed list rebuilds the index of both lists.
+     *
+     * @param index the index of the first element of the returned list
+     * @return a new list holding the elements from the index to the tail
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public LinkedList<E> splitAt(int index) {
+
+        // the index may be anywhere from the head up to just past the tail
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        // the new list pools nodes the same way this one does
+        LinkedList<E> rest = new LinkedList<E>(_maxFreeNodes, _index != null);
+
+        if (index < this.size()) {
+
+            // the first node of the rest and the last node kept here
+            LinkedListNode<E> first = SetIterateCurrentsForGet(index);
+            LinkedListNode<E> last = first.getPrevious();
+
+            // the rest takes every node from first to the tail
+            rest._head = first;
+            rest._tail = _tail;
+            rest._size = _size - index;
+            first.setPrevious(null);
+
+            // this list ends at last, or is empty if the split was at 0
+            _tail = last;
+
+            if (last == null) {
+                _head = null;
+            } else {
+                last.setNext(null);
+            }
+
+            // update the size and modification count of this list
+            _size = index;
+            _modCount++;
+
+            // each list indexes only the nodes it kept
+            rebuildIndex();
+            rest.rebuildIndex();
+        }
+
+        return rest;
+    }
+
+
+    /**
+     * Append every element of elements at the tail of the list, in
+     * iteration order.
+     *
+     * @param elements the elements to be appended
+     * @return true if the list changed as a result of the call
+     */
+    public boolean addAll(Iterable<? extends E> elements) {
+        return addAll(this.size(), elements);
+    }
 
-            } else if (index == this.size() - 1) {
 
-                // store tail's element
-                element = _tail.getValue();
+    /**
+     * Insert every element of elements into the list, in iteration order,
+     * starting at the specified index. The new nodes are chained together
+     * first and then linked in with a single seek and a single change to
+     * the modification count. They are only indexed once linked, so if
+     * elements throws partway through, the list and its index are left
+     * unchanged.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @return true if the list changed as a result of the call
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public boolean addAll(int index, Iterable<? extends E> elements) {
+
+        // the index may be anywhere from the head up to just past the tail
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
 
-                // set tail to previous node
-                _tail = _tail.getPrevious();
+        // chain the new nodes together before touching the list, so
+        // elements may even be this list
+        LinkedListNode<E> first = null;
+        LinkedListNode<E> last = null;
+        int count = 0;
 
-                // set next of previous node to null
-                _tail.setNext(null);
+        for (E element : elements) {
 
-                // update tail's previous to 2nd to last node
-                _tail.setPrevious(_tail.getPrevious().getPrevious());
+            LinkedListNode<E> node = takeNode(element);
+            node.setPrevious(last);
 
+            if (last == null) {
+                first = node;
             } else {
+                last.setNext(node);
+            }
+
+            last = node;
+            count++;
+        }
+
+        if (count > 0) {
 
-                // if index is out of bounds, throw exception
-                checkRange(index);
+            // the chain goes between previous and successor
+            LinkedListNode<E> successor =
+                (index == this.size()) ? null : SetIterateCurrentsForGet(index);
+            LinkedListNode<E> previous =
+                (successor == null) ? _tail : successor.getPrevious();
 
-                // find the previous node of the node to be removed
-                LinkedListNode<E> prev = SetIterateCurrents(index);
+            // hook the first node of the chain after previous
+            first.setPrevious(previous);
 
-                // get the element to be removed
-                element = prev.getNext().getValue();
+            if (previous == null) {
+                _head = first;
+            } else {
+                previous.setNext(first);
+            }
 
-                // set the next of previous node to next of next node
-                prev.setNext(prev.getNext().getNext());
+            // hook the last node of the chain in front of successor
+            last.setNext(successor);
+
+            if (successor == null) {
+                _tail = last;
+            } else {
+                successor.setPrevious(last);
+            }
 
-                // update the previous node when removed a node
-                prev.getNext().setPrevious(prev);
+            // the chain is part of the list now, so index it
+            for (LinkedListNode<E> node = first; node != successor;
+                 node = node.getNext()) {
+                indexNode(node);
             }
 
-            // decrement the size and the modification count
-            _size--;
+            // update the size and modification count once for the batch
+            _size += count;
             _modCount++;
         }
 
-        return element;
+        return count > 0;
+    }
+
+
+    /**
+     * Remove every element that satisfies the given predicate in a single
+     * walk, with a single change to the modification count. If the
+     * predicate throws, the elements removed before it stay removed.
+     *
+     * @param filter the predicate that returns true for elements to remove
+     * @return true if any elements were removed
+     */
+    public boolean removeAll(Predicate<? super E> filter) {
+
+        int removed = 0;
+        LinkedListNode<E> current = _head;
+
+        try {
+
+            while (current != null) {
+
+                LinkedListNode<E> next = current.getNext();
+
+                if (filter.test(current.getValue())) {
+
+                    LinkedListNode<E> previous = current.getPrevious();
+
+                    // bypass the node going forward, or move the head past it
+                    if (previous == null) {
+                        _head = next;
+                    } else {
+                        previous.setNext(next);
+                    }
+
+                    // bypass the node going backward, or move the tail
+                    // before it
+                    if (next == null) {
+                        _tail = previous;
+                    } else {
+                        next.setPrevious(previous);
+                    }
+
+                    // detach the node and hand it back for reuse
+                    unindexNode(current);
+                    current.setNext(null);
+                    current.setPrevious(null);
+                    recycleNode(current);
+
+                    removed++;
+                }
+
+                current = next;
+            }
+
+        } finally {
+
+            // update the size and modification count once for the batch,
+            // even if the predicate threw after some nodes were recycled
+            if (removed > 0) {
+                _size -= removed;
+                _modCount++;
+            }
+        }
+
+        return removed > 0;
     }
 
 
@@ -336,7 +605,7 @@ public class LinkedList<E> implements Iterable<E> {
             oldElement = _head.getValue();
 
             // set new element to head
-            _head.setValue(element);
+            replaceValue(_head, element);
 
         } else if (index == this.size() - 1) {
 
@@ -344,7 +613,7 @@ public class LinkedList<E> implements Iterable<E> {
             oldElement = _tail.getValue();
 
             // set tail to the new element
-            _tail.setValue(element);
+            replaceValue(_tail, element);
 
         } else {
 
@@ -358,7 +627,7 @@ public class LinkedList<E> implements Iterable<E> {
             oldElement = current.getValue();
 
             // set the element of the node
-            current.setValue(element);
+            replaceValue(current, element);
 
             // update previous node of the next node
             current.getNext().setPrevious(current);
@@ -380,6 +649,14 @@ public class LinkedList<E> implements Iterable<E> {
         _head = null;
         _tail = null;
 
+        // drop the finger so the old nodes can be collected
+        _finger = null;
+
+        // no element has a node any more
+        if (_index != null) {
+            _index.clear();
+        }
+
         // reset the size
         _size = 0;
 
@@ -408,9 +685,31 @@ public class LinkedList<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Returns the number of nodes this list has allocated.
+     *
+     * @return the number of nodes created with new
+     */
+    public long nodesAllocated() {
+        return _nodesAllocated;
+    }
+
+
+    /**
+     * Returns the number of nodes this list has reused from its free list
+     * instead of allocating.
+     *
+     * @return the number of nodes taken from the free list
+     */
+    public long nodesReused() {
+        return _nodesReused;
+    }
+
+
     /**
      * Returns the index of the first occurrence of the node with the
-     * element, or -1 if this list does not contain the element.
+     * element, or -1 if this list does not contain the element. An indexed
+     * list answers -1 without walking.
      *
      * @param element the element to be searched for
      * @return the index of the first occurrence of the specified node
@@ -418,61 +717,60 @@ public class LinkedList<E> implements Iterable<E> {
      */
     public int indexOf(E element) {
 
-        // control variable for loop
-        boolean found = false;
-
         // index is negative if element is not found
         int index = -1;
 
-        // if list is empty, return -1
-        if (!isEmpty()) {
-
-            // set current to head
-            LinkedListNode<E> current = _head;
-
-            // checks if element is valid or not
-            if (element == null) {
-
-                // iterate through the list
-                for (int i = 0; i < this.size(); i++) {
+        // an indexed list knows up front whether the walk can succeed
+        if (_index == null || _index.containsKey(element)) {
 
-                    // checks if current node's value is null and not found
-                    if (current.getValue() == null && !found) {
+            int i = 0;
 
-                        // end loop
-                        found = true;
+            // stop at the first match
+            for (LinkedListNode<E> current = _head;
+                 current != null && index == -1;
+                 current = current.getNext()) {
 
-                        // update index to return
-                        index = i;
-                    }
-
-                    // set current to next node
-                    current = current.getNext();
+                if (matches(element, current.getValue())) {
+                    index = i;
                 }
 
-            } else {
+                i++;
+            }
+        }
 
-                for (int i = 0; i < this.size(); i++) {
+        return index;
+    }
 
-                    if (current.getValue() != null
-                        && element.equals(current.getValue())
-                        && !found) {
 
-                        // end loop
-                        found = true;
+    /**
+     * Returns true if this list contains the element. Constant time on an
+     * indexed list.
+     *
+     * @param element the element to be searched for
+     * @return true if this list contains the element
+     */
+    public boolean contains(E element) {
+        return (_index == null) ? indexOf(element) >= 0
+                                : _index.containsKey(element);
+    }
 
-                        // update index to return
-                        index = i;
-                    }
 
-                    // set current to next node
-                    current = current.getNext();
-                }
-            }
+    /**
+     * Remove the first occurrence of the element from the list. Constant
+     * time on an indexed list when the element occurs only once.
+     *
+     * @param element the element to be removed
+     * @return true if an element was removed, false if none was found
+     */
+    public boolean removeFirstOccurrence(E element) {
 
+        LinkedListNode<E> node = findFirstNode(element);
+
+        if (node != null) {
+            unlink(node);
         }
 
-        return index;
+        return node != null;
     }
 
 
@@ -500,111 +798,520 @@ public class LinkedList<E> implements Iterable<E> {
 
 
     /**
-     * Checks the index to see if index is less than 0 or greater than
-     * or equal to the size.
-     *
-     * @param index the index to be checked
+     * Creates a new LinkedListListIterator positioned at the head of
+     * this list.
      *
-     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @return a new LinkedListListIterator over this list
      */
-    private void checkRange(int index) {
-
-        // checks the bounds of the index
-        if (index < 0 || index >= this.size()) {
-
-            // if index is out of bounds, throw exception
-            throw new IndexOutOfBoundsException();
-        }
+    public ListIterator<E> listIterator() {
+        return new LinkedListListIterator(0);
     }
 
 
     /**
-     * Point current to the head, and iterate through current using
-     * getNext() until i is at index.
+     * Creates a new LinkedListListIterator positioned so that the first
+     * call to next() returns the element at the specified index.
      *
-     * @param index the index to be found
-     * @return the node at the index
+     * @param index the index of the first element to be returned by next()
+     * @return a new LinkedListListIterator over this list
      *
-     * @see java.util.ListIterator#getNext()
+     * @throws IndexOutOfBoundsException {@inheritDoc}
      */
-    private LinkedListNode<E> SetIterateCurrents(int index) {
+    public ListIterator<E> listIterator(int index) {
 
-        // store the head node to current node
-        LinkedListNode<E> current = _head;
-
-        // loop through the list until the node at the index is found
-        for (int i = 0; i < index - 1; i++) {
-            current = current.getNext();
+        // the cursor may sit anywhere from before the head to after the tail
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
         }
 
-        return current;
+        return new LinkedListListIterator(index);
     }
 
 
     /**
-     * Point current to the head, and iterate through current using
-     * getNext() until i is at index.
+     * Link a new node holding element in front of successor, or at the
+     * tail if successor is null.
      *
-     * @param index the index to be found
-     * @return the node at the index
+     * @param element the element to be inserted
+     * @param successor the node the new node goes in front of
+     * @return the new node
      */
-    private LinkedListNode<E> SetIterateCurrentsForGet(int index) {
+    private LinkedListNode<E> linkBefore(E element,
+                                         LinkedListNode<E> successor) {
 
-        // store the head node to current node
-        LinkedListNode<E> current = _head;
+        // the new node sits between successor's previous node and successor
+        LinkedListNode<E> previous =
+            (successor == null) ? _tail : successor.getPrevious();
+        LinkedListNode<E> newNode = obtainNode(element);
 
-        // loop through the list until the node at the index is found
-        for (int i = 0; i < index; i++) {
-            current = current.getNext();
+        newNode.setPrevious(previous);
+        newNode.setNext(successor);
+
+        // hook the new node into its previous node, or make it the head
+        if (previous == null) {
+            _head = newNode;
+        } else {
+            previous.setNext(newNode);
         }
 
-        return current;
+        // hook the new node into its successor, or make it the tail
+        if (successor == null) {
+            _tail = newNode;
+        } else {
+            successor.setPrevious(newNode);
+        }
+
+        // update the size and modification count
+        _size++;
+        _modCount++;
+
+        return newNode;
     }
 
 
     /**
-     * LinkedListNode class that stores the value of the node,
-     * the next node, and the previous node.
+     * Unlink the given node from the list.
      *
-     * @author hzhu20@georgefox.edu
-     * @version 1.0
-     * @since 2021-10-29
+     * @param node the node to be removed
+     * @return the element of the removed node
      */
-    private class LinkedListNode<T> {
+    private E unlink(LinkedListNode<E> node) {
 
-        private E _value;                 // the value of the node
-        private LinkedListNode<E> _next;  // the next node in the list
-        private LinkedListNode<E> _prev;  // the previous node in the list
+        LinkedListNode<E> previous = node.getPrevious();
+        LinkedListNode<E> next = node.getNext();
 
+        // bypass the node going forward, or move the head past it
+        if (previous == null) {
+            _head = next;
+        } else {
+            previous.setNext(next);
+        }
 
-        /**
-         * Constructs a node with the given value and next node.
-         *
-         * @param value the value to be stored in this node
-         * @param prev the prev node in the list
-         * @param next the next node in the list
-         */
-        public LinkedListNode(E value,
-                              LinkedListNode<E> prev,
-                              LinkedListNode<E> next) {
-            _value = value;
-            _next = next;
-            _prev = prev;
+        // bypass the node going backward, or move the tail before it
+        if (next == null) {
+            _tail = previous;
+        } else {
+            next.setPrevious(previous);
         }
 
+        // keep the element before the node is recycled
+        E element = node.getValue();
+        unindexNode(node);
 
-        /**
-         * Constructs a node with the given value and next node.
-         *
-         * @param value the value to be stored in this node
-         */
+        // detach the node so it does not keep its neighbours alive
+        node.setNext(null);
+        node.setPrevious(null);
+        recycleNode(node);
 
-        public LinkedListNode(E value) {
-            this(value, null, null);
-        }
+        // update the size and modification count
+        _size--;
+        _modCount++;
 
+        return element;
+    }
 
-        /**
+
+    /**
+     * Forget every node after they have been moved to another list.
+     */
+    private void detachAll() {
+
+        // set head and tail to null
+        _head = null;
+        _tail = null;
+
+        // the finger and index point into the other list now
+        _finger = null;
+
+        if (_index != null) {
+            _index.clear();
+        }
+
+        // reset the size and update the modification count
+        _size = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Take a node from the free list, or allocate one if the free list
+     * is empty, store element in it and add it to the index.
+     *
+     * @param element the element to be stored
+     * @return a node holding element with no previous or next node
+     */
+    private LinkedListNode<E> obtainNode(E element) {
+
+        LinkedListNode<E> node = takeNode(element);
+        indexNode(node);
+
+        return node;
+    }
+
+
+    /**
+     * Take a node from the free list, or allocate one if the free list
+     * is empty, and store element in it without indexing it.
+     *
+     * @param element the element to be stored
+     * @return a node holding element with no previous or next node
+     */
+    private LinkedListNode<E> takeNode(E element) {
+
+        LinkedListNode<E> node = _freeNodes;
+
+        if (node == null) {
+
+            // nothing to reuse, allocate a new node
+            node = new LinkedListNode<E>(element);
+            _nodesAllocated++;
+
+        } else {
+
+            // pop the node off the free list
+            _freeNodes = node.getNext();
+            _freeCount--;
+            _nodesReused++;
+
+            node.setNext(null);
+            node.setValue(element);
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Put an unlinked node on the free list if there is room for it.
+     *
+     * @param node the node to be recycled
+     */
+    private void recycleNode(LinkedListNode<E> node) {
+
+        if (_freeCount < _maxFreeNodes) {
+
+            // drop the element so the free list does not keep it alive
+            node.setValue(null);
+
+            // push the node onto the free list
+            node.setNext(_freeNodes);
+            _freeNodes = node;
+            _freeCount++;
+        }
+    }
+
+
+    /**
+     * Find the first node holding element. An indexed list goes straight
+     * to the node when the element occurs only once.
+     *
+     * @param element the element to be searched for
+     * @return the first node holding element, or null if there is none
+     */
+    private LinkedListNode<E> findFirstNode(E element) {
+
+        LinkedListNode<E> found = null;
+        IndexEntry entry = (_index == null) ? null : _index.get(element);
+
+        if (entry != null && entry.isSingle()) {
+
+            // the only node holding the element is the first
+            found = entry._node;
+
+        } else if (_index == null || entry != null) {
+
+            // walk from the head to the first match
+            for (LinkedListNode<E> current = _head;
+                 current != null && found == null;
+                 current = current.getNext()) {
+
+                if (matches(element, current.getValue())) {
+                    found = current;
+                }
+            }
+        }
+
+        return found;
+    }
+
+
+    /**
+     * Add a node to the index, if this list is indexed.
+     *
+     * @param node the node to be indexed under its element
+     */
+    private void indexNode(LinkedListNode<E> node) {
+
+        if (_index != null) {
+
+            IndexEntry entry = _index.get(node.getValue());
+
+            if (entry == null) {
+                _index.put(node.getValue(), new IndexEntry(node));
+            } else {
+                entry.addNode(node);
+            }
+        }
+    }
+
+
+    /**
+     * Remove a node from the index, if this list is indexed. The entry
+     * keeps every node holding the element, so this takes constant time
+     * however many duplicates there are.
+     *
+     * @param node the node to be removed from the index
+     */
+    private void unindexNode(LinkedListNode<E> node) {
+
+        if (_index != null) {
+
+            E element = node.getValue();
+            IndexEntry entry = _index.get(element);
+
+            // drop the entry once no node holds the element any more
+            if (!entry.removeNode(node)) {
+                _index.remove(element);
+            }
+        }
+    }
+
+
+    /**
+     * Replace the element of a node, keeping the index up to date.
+     *
+     * @param node the node whose element is replaced
+     * @param element the new element
+     */
+    private void replaceValue(LinkedListNode<E> node, E element) {
+        unindexNode(node);
+        node.setValue(element);
+        indexNode(node);
+    }
+
+
+    /**
+     * Rebuild the index from the nodes currently in the list.
+     */
+    private void rebuildIndex() {
+
+        if (_index != null) {
+
+            _index.clear();
+
+            for (LinkedListNode<E> current = _head; current != null;
+                 current = current.getNext()) {
+                indexNode(current);
+            }
+        }
+    }
+
+
+    /**
+     * Compare two elements, either of which may be null.
+     *
+     * @param element the element being searched for
+     * @param value the value of a node
+     * @return true if the two are equal
+     */
+    private boolean matches(E element, E value) {
+        return (element == null) ? value == null : element.equals(value);
+    }
+
+
+    /**
+     * Checks the index to see if index is less than 0 or greater than
+     * or equal to the size.
+     *
+     * @param index the index to be checked
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    private void checkRange(int index) {
+
+        // checks the bounds of the index
+        if (index < 0 || index >= this.size()) {
+
+            // if index is out of bounds, throw exception
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    /**
+     * Find the node at index, walking from whichever of the head, the tail
+     * or the finger left by the previous seek is closest. The node found
+     * becomes the new finger, so sequential indexed loops only take a step
+     * or two per call.
+     *
+     * @param index the index to be found
+     * @return the node at the index
+     */
+    private LinkedListNode<E> SetIterateCurrentsForGet(int index) {
+
+        // start from the head
+        LinkedListNode<E> current = _head;
+        int currentIndex = 0;
+        int distance = index;
+
+        // the tail is closer
+        if (_size - 1 - index < distance) {
+            current = _tail;
+            currentIndex = _size - 1;
+            distance = _size - 1 - index;
+        }
+
+        // the finger is still valid and closer still
+        if (_finger != null && _fingerModCount == _modCount
+            && Math.abs(index - _fingerIndex) < distance) {
+            current = _finger;
+            currentIndex = _fingerIndex;
+        }
+
+        // walk forward or backward until the node at the index is found
+        while (currentIndex < index) {
+            current = current.getNext();
+            currentIndex++;
+        }
+
+        while (currentIndex > index) {
+            current = current.getPrevious();
+            currentIndex--;
+        }
+
+        // remember where we ended up for the next seek
+        _finger = current;
+        _fingerIndex = index;
+        _fingerModCount = _modCount;
+
+        return current;
+    }
+
+
+    /**
+     * IndexEntry class that stores every node in the list holding an
+     * element. Most elements occur once, so the set for the other nodes is
+     * only created when a second node turns up.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class IndexEntry {
+
+        private LinkedListNode<E> _node;                  // a node holding it
+        private LinkedHashSet<LinkedListNode<E>> _others;  // the rest, or null
+
+
+        /**
+         * Constructs an entry for the first node holding an element.
+         *
+         * @param node the node holding the element
+         */
+        public IndexEntry(LinkedListNode<E> node) {
+            _node = node;
+            _others = null;
+        }
+
+
+        /**
+         * Returns true if exactly one node holds the element, which is
+         * then _node.
+         *
+         * @return true if exactly one node holds the element
+         */
+        public boolean isSingle() {
+            return _others == null || _others.isEmpty();
+        }
+
+
+        /**
+         * Add another node holding the element.
+         *
+         * @param node the node to be added
+         */
+        public void addNode(LinkedListNode<E> node) {
+
+            if (_others == null) {
+                _others = new LinkedHashSet<LinkedListNode<E>>();
+            }
+
+            _others.add(node);
+        }
+
+
+        /**
+         * Remove a node holding the element. If it was _node, one of the
+         * other nodes takes its place.
+         *
+         * @param node the node to be removed
+         * @return true if some node still holds the element
+         */
+        public boolean removeNode(LinkedListNode<E> node) {
+
+            boolean remaining = true;
+
+            if (node != _node) {
+                _others.remove(node);
+
+            } else if (isSingle()) {
+                remaining = false;
+
+            } else {
+
+                // promote the oldest of the other nodes
+                Iterator<LinkedListNode<E>> others = _others.iterator();
+                _node = others.next();
+                others.remove();
+            }
+
+            return remaining;
+        }
+    }
+
+
+    /**
+     * LinkedListNode class that stores the value of the node,
+     * the next node, and the previous node.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     * @since 2021-10-29
+     */
+    private class LinkedListNode<T> {
+
+        private E _value;                 // the value of the node
+        private LinkedListNode<E> _next;  // the next node in the list
+        private LinkedListNode<E> _prev;  // the previous node in the list
+
+
+        /**
+         * Constructs a node with the given value and next node.
+         *
+         * @param value the value to be stored in this node
+         * @param prev the prev node in the list
+         * @param next the next node in the list
+         */
+        public LinkedListNode(E value,
+                              LinkedListNode<E> prev,
+                              LinkedListNode<E> next) {
+            _value = value;
+            _next = next;
+            _prev = prev;
+        }
+
+
+        /**
+         * Constructs a node with the given value and next node.
+         *
+         * @param value the value to be stored in this node
+         */
+
+        public LinkedListNode(E value) {
+            this(value, null, null);
+        }
+
+
+        /**
          * Constructs a node with no specified value.
          */
         public LinkedListNode() {
@@ -812,4 +1519,212 @@ public class LinkedList<E> implements Iterable<E> {
             return value;
         }
     }
+
+
+    /**
+     * LinkedListListIterator class implements the ListIterator interface.
+     * The cursor sits between two nodes, so add, remove and set splice at
+     * the cursor in constant time instead of seeking from the head.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class LinkedListListIterator implements ListIterator<E> {
+
+        private LinkedListNode<E> _nextNode;      // node returned by next()
+        private LinkedListNode<E> _lastReturned;  // node to remove or set
+        private int _nextIndex;                   // index of _nextNode
+        private int _expectedModCount;            // tracking list changes
+
+
+        /**
+         * Constructs a new LinkedListListIterator whose cursor sits in
+         * front of the node at the given index.
+         *
+         * @param index the index of the first element returned by next()
+         */
+        public LinkedListListIterator(int index) {
+
+            // past the tail there is no next node
+            _nextNode = (index == _size) ? null : SetIterateCurrentsForGet(index);
+            _nextIndex = index;
+            _lastReturned = null;
+
+            // set the expected mod count to the current mod count
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if there is an element after the cursor.
+         *
+         * @return true if there is an element after the cursor
+         */
+        public boolean hasNext() {
+            return _nextIndex < _size;
+        }
+
+
+        /**
+         * Returns the element after the cursor and moves the cursor forward.
+         *
+         * @return the next element in the list
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public E next() {
+
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // step over the next node
+            _lastReturned = _nextNode;
+            _nextNode = _nextNode.getNext();
+            _nextIndex++;
+
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Returns true if there is an element before the cursor.
+         *
+         * @return true if there is an element before the cursor
+         */
+        public boolean hasPrevious() {
+            return _nextIndex > 0;
+        }
+
+
+        /**
+         * Returns the element before the cursor and moves the cursor back.
+         *
+         * @return the previous element in the list
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public E previous() {
+
+            checkForComodification();
+
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            // past the tail the previous node is the tail itself
+            _nextNode = (_nextNode == null) ? _tail : _nextNode.getPrevious();
+            _lastReturned = _nextNode;
+            _nextIndex--;
+
+            return _lastReturned.getValue();
+        }
+
+
+        /**
+         * Returns the index of the element that next() would return.
+         *
+         * @return the index of the element after the cursor
+         */
+        public int nextIndex() {
+            return _nextIndex;
+        }
+
+
+        /**
+         * Returns the index of the element that previous() would return.
+         *
+         * @return the index of the element before the cursor
+         */
+        public int previousIndex() {
+            return _nextIndex - 1;
+        }
+
+
+        /**
+         * Removes the element last returned by next() or previous().
+         *
+         * @throws IllegalStateException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public void remove() {
+
+            checkForComodification();
+
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            // keep the cursor on the same side of the removed node
+            if (_nextNode == _lastReturned) {
+                _nextNode = _lastReturned.getNext();
+            } else {
+                _nextIndex--;
+            }
+
+            unlink(_lastReturned);
+
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Replaces the element last returned by next() or previous().
+         *
+         * @param element the element to be set
+         *
+         * @throws IllegalStateException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public void set(E element) {
+
+            checkForComodification();
+
+            if (_lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            replaceValue(_lastReturned, element);
+        }
+
+
+        /**
+         * Inserts an element at the cursor, in front of the element that
+         * next() would return.
+         *
+         * @param element the element to be inserted
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public void add(E element) {
+
+            checkForComodification();
+
+            linkBefore(element, _nextNode);
+
+            // the cursor moves past the new element
+            _nextIndex++;
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Checks the list has not been modified other than through this
+         * iterator.
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        private void checkForComodification() {
+
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
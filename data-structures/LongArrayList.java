@@ -0,0 +1,486 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Resizable array of primitive long values. Mirrors ArrayList, but stores
+ * the elements unboxed in a long[] so that each element costs 8 bytes
+ * instead of a reference plus a Long object.
+ *
+ * @author hzhu20@georgefox.edu
+ * @see ArrayList
+ */
+public class LongArrayList implements Iterable<Long>
+{
+    // Constants
+
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8; // max capacity
+    private static final int DEFAULT_LENGTH_ARRAY = 10; // default capacity
+
+    // Internal State
+
+    private long[] _values; // backing array
+    private int _size; // size of claimed space in the array
+
+
+    /**
+     * Constructor that creates a LongArrayList with the given initial
+     * capacity.
+     *
+     * @param initialCapacity the initial capacity of the LongArrayList
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    public LongArrayList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Capacity needs to be at least 1.");
+        }
+
+        this._values = new long[initialCapacity];
+        this._size = 0;
+    }
+
+
+    /**
+     * Constructor that creates an empty LongArrayList with default capacity
+     * of 10.
+     */
+    public LongArrayList()
+    {
+        this(DEFAULT_LENGTH_ARRAY);
+    }
+
+
+    /**
+     * Returns the size of the LongArrayList.
+     *
+     * @return the size of the LongArrayList
+     */
+    public int size()
+    {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if the LongArrayList is empty, false otherwise.
+     *
+     * @return true if the LongArrayList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns element at the specified index.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public long get(int index)
+    {
+        checkRange(index);
+        return getValues()[index];
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the specified element,
+     * stopping as soon as it is found. The backing array and size are read
+     * into locals so the JIT can drop the per-element bounds checks.
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public int indexOf(long element)
+    {
+        long[] values = getValues();
+        int size = this.size();
+        int index = -1;
+
+        for (int i = 0; i < size; i++)
+        {
+            if (values[i] == element)
+            {
+                index = i;
+                break;
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns the index of the last occurrence of the specified element,
+     * scanning backwards from the end of the LongArrayList.
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     */
+    public int lastIndexOf(long element)
+    {
+        long[] values = getValues();
+        int index = -1;
+
+        for (int i = this.size() - 1; i >= 0; i--)
+        {
+            if (values[i] == element)
+            {
+                index = i;
+                break;
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Returns true if the LongArrayList contains the specified element,
+     * false otherwise.
+     *
+     * @param element the element to check for
+     * @return true if the LongArrayList contains the specified element,
+     *         false otherwise
+     */
+    public boolean contains(long element)
+    {
+        return indexOf(element) >= 0;
+    }
+
+
+    /**
+     * Searches the LongArrayList for the specified element using binary
+     * search. The LongArrayList must already be sorted in ascending order,
+     * otherwise the result is undefined.
+     *
+     * @param element the element to search for
+     * @return the index of the element if found, otherwise
+     *         (-(insertion point) - 1)
+     * @see Arrays#binarySearch(long[], int, int, long)
+     */
+    public int binarySearch(long element)
+    {
+        return Arrays.binarySearch(getValues(), 0, size(), element);
+    }
+
+
+    /**
+     * Appends the specified element to the end of the LongArrayList.
+     *
+     * @param element the element to add
+     * @return true if the element was added
+     */
+    public boolean add(long element)
+    {
+        checkCapacityNeeded(this._size + 1);
+
+        getValues()[this._size++] = element;
+
+        return true;
+    }
+
+
+    /**
+     * Adds the specified element at the specified index.
+     *
+     * @param index the index to add the element at
+     * @param element the element to add
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(int index, long element)
+    {
+        checkIndex(index);
+        checkCapacityNeeded(this._size + 1);
+
+        System.arraycopy(getValues(), index, getValues(), index + 1,
+                         size() - index);
+
+        getValues()[index] = element;
+        this._size++;
+    }
+
+
+    /**
+     * Appends all of the given elements to the end of the LongArrayList,
+     * growing the backing array at most once.
+     *
+     * @param elements the elements to add
+     * @return true if the LongArrayList changed as a result of the call
+     */
+    public boolean addAll(long[] elements)
+    {
+        checkCapacityNeeded(this._size + elements.length);
+
+        System.arraycopy(elements, 0, getValues(), this._size,
+                         elements.length);
+        this._size += elements.length;
+
+        return elements.length > 0;
+    }
+
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public long remove(int index)
+    {
+        checkRange(index);
+
+        long remElement = getValues()[index];
+
+        System.arraycopy(getValues(), index + 1, getValues(), index,
+                         size() - index - 1);
+
+        this._size--;
+
+        return remElement;
+    }
+
+
+    /**
+     * Sets the size to 0. The backing array holds no references, so it
+     * does not need to be cleared.
+     */
+    public void clear()
+    {
+        this._size = 0;
+    }
+
+
+    /**
+     * Returns the old element at the specified index and replaces it with the
+     * new specified element.
+     *
+     * @param index the index to find the position to set the specified element
+     * @param element the element to set at the specified index
+     *
+     * @return the previous element at the specified index
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public long set(int index, long element)
+    {
+        checkRange(index);
+
+        long prevElement = getValues()[index];
+        getValues()[index] = element;
+
+        return prevElement;
+    }
+
+
+    /**
+     * Returns a copy of the elements in the LongArrayList.
+     *
+     * @return a new array holding the elements in order
+     */
+    public long[] toArray()
+    {
+        return Arrays.copyOf(getValues(), size());
+    }
+
+
+    /**
+     * Returns the backing array of the LongArrayList.
+     *
+     * @return the backing array of the LongArrayList
+     */
+    private long[] getValues()
+    {
+        return this._values;
+    }
+
+
+    /**
+     * Returns the capacity of the LongArrayList.
+     *
+     * @return the capacity of the LongArrayList
+     */
+    private int currCapacity()
+    {
+        return getValues().length;
+    }
+
+
+    /**
+     * Checks the index is greater than the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index > this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid Index: %d", index));
+        }
+    }
+
+
+    /**
+     * Checks the index is greater than or equal to the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkRange(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+    }
+
+
+    /**
+     * Grows capacity if necessary for the array
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity)
+    {
+        int currCapacity = currCapacity();
+        int newCapacity = currCapacity * 2;
+
+        if (newCapacity - minCapacity < 0)
+        {
+            newCapacity = minCapacity;
+        }
+
+        if (newCapacity - MAX_ELEMENTS > 0)
+        {
+            newCapacity = overloadedArray(minCapacity);
+        }
+
+        this._values = Arrays.copyOf(getValues(), newCapacity);
+    }
+
+
+    /**
+     * Returns max element size
+     *
+     * @param minCapacity the minimum capacity to make the array bigger
+     * @return the maximum element size for the array
+     */
+    private int overloadedArray(int minCapacity)
+    {
+        if (minCapacity < 0) // overflow
+        {
+            throw new OutOfMemoryError("Overflow");
+        }
+
+        return (minCapacity > MAX_ELEMENTS) ? Integer.MAX_VALUE : MAX_ELEMENTS;
+    }
+
+
+    /**
+     * Ensures the array has enough capacity
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void checkCapacityNeeded(int minCapacity)
+    {
+        if (size() == 0)
+        {
+            minCapacity = Math.max(DEFAULT_LENGTH_ARRAY, minCapacity);
+        }
+
+        checkCurrentCapacity(minCapacity);
+    }
+
+
+    /**
+     * Checks current capacity if large enough, otherwise grows
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void checkCurrentCapacity(int minCapacity)
+    {
+        if (minCapacity - currCapacity() > 0)
+        {
+            grow(minCapacity);
+        }
+    }
+
+
+    /**
+     * Returns new LongArrayListIterator
+     *
+     * @return new LongArrayListIterator
+     * @see LongArrayListIterator
+     * @see PrimitiveIterator.OfLong
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator()
+    {
+        return new LongArrayListIterator();
+    }
+
+
+    /**
+     * LongArrayListIterator implementing PrimitiveIterator.OfLong so callers
+     * can read elements through nextLong() without boxing.
+     *
+     * @author hzhu20@georgefox.edu
+     *
+     * @see PrimitiveIterator.OfLong
+     * @see LongArrayList
+     */
+    private class LongArrayListIterator implements PrimitiveIterator.OfLong
+    {
+        // current index points to the next element to be returned
+        private int _index;
+
+
+        /**
+         * Constructs a LongArrayListIterator
+         */
+        public LongArrayListIterator()
+        {
+            this._index = 0;
+        }
+
+
+        /**
+         * Returns true if the LongArrayListIterator has a next element, false
+         * otherwise.
+         *
+         * @return true if the LongArrayListIterator has a next element, false
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return _index < size();
+        }
+
+
+        /**
+         * Returns the next element in the LongArrayListIterator.
+         *
+         * @return the next element in the LongArrayListIterator
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        @Override
+        public long nextLong()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            return _values[_index++];
+        }
+    }
+}
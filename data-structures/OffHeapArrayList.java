@@ -0,0 +1,856 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Resizable list whose elements are stored outside the Java heap. Each
+ * element is encoded into a fixed-size record of a direct ByteBuffer through
+ * a Codec, so the garbage collector never has to trace or copy the contents
+ * of the list.
+ *
+ * The records live in a directory of direct buffers of at most 16 MiB each,
+ * addressed by a long index, so the list is not limited to Integer.MAX_VALUE
+ * bytes. The first buffer grows with the same doubling policy as ArrayList
+ * until it reaches the full chunk size; after that growing only allocates
+ * another chunk and never copies the records already stored. Records are
+ * kept in the platform's native byte order.
+ *
+ * The native memory is released as soon as the list is closed. A list that
+ * is never closed is released by the buffers' Cleaners once it is no longer
+ * reachable.
+ *
+ * @author hzhu20@georgefox.edu
+ * @see ArrayList
+ * @see BigArrayList
+ */
+public class OffHeapArrayList<E> implements Iterable<E>, AutoCloseable
+{
+    // Constants
+
+    private static final int MAX_CHUNK_BYTES = 1 << 24; // largest chunk buffer
+    private static final int DEFAULT_LENGTH_ARRAY = 10; // default capacity
+    private static final int DEFAULT_LENGTH_DIRECTORY = 4; // default chunk slots
+    private static final MethodHandle INVOKE_CLEANER = findCleaner(); // or null
+
+    // Built-in codecs
+
+    /**
+     * Codec for Integer elements in 4-byte records. Null elements are not
+     * supported, and adding one throws a NullPointerException.
+     */
+    public static final Codec<Integer> INT_CODEC = new Codec<Integer>()
+    {
+        @Override
+        public int byteSize()
+        {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element)
+        {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codec for Long elements in 8-byte records. Null elements are not
+     * supported, and adding one throws a NullPointerException.
+     */
+    public static final Codec<Long> LONG_CODEC = new Codec<Long>()
+    {
+        @Override
+        public int byteSize()
+        {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element)
+        {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for Double elements in 8-byte records. Null elements are not
+     * supported, and adding one throws a NullPointerException.
+     */
+    public static final Codec<Double> DOUBLE_CODEC = new Codec<Double>()
+    {
+        @Override
+        public int byteSize()
+        {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element)
+        {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    // Internal State
+
+    private final Codec<E> _codec; // encodes elements into records
+    private final int _recordSize; // bytes per element
+    private final int _chunkShift; // log2 of the records in a full chunk
+    private final int _chunkMask; // mask for the record within a chunk
+    private ByteBuffer[] _chunks; // directory of chunks, null once closed
+    private int _chunkCount; // number of chunks allocated
+    private long _capacity; // number of records the chunks can hold
+    private long _size; // size of claimed space in the chunks
+
+
+    /**
+     * Constructor that creates an OffHeapArrayList with the given codec and
+     * initial capacity.
+     *
+     * @param codec the codec used to encode and decode elements
+     * @param initialCapacity the initial capacity of the OffHeapArrayList
+     * @throws IllegalArgumentException {@inheritDoc}
+     */
+    public OffHeapArrayList(Codec<E> codec, long initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Capacity needs to be at least 1.");
+        }
+
+        if (codec.byteSize() <= 0 || codec.byteSize() > MAX_CHUNK_BYTES)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Record size must be between 1 and %d.", MAX_CHUNK_BYTES));
+        }
+
+        this._codec = codec;
+        this._recordSize = codec.byteSize();
+        this._chunkShift = 31 - Integer.numberOfLeadingZeros(
+            MAX_CHUNK_BYTES / this._recordSize);
+        this._chunkMask = (1 << this._chunkShift) - 1;
+        this._chunks = new ByteBuffer[DEFAULT_LENGTH_DIRECTORY];
+        this._chunkCount = 0;
+        this._capacity = 0;
+        this._size = 0;
+
+        if (initialCapacity > 0)
+        {
+            grow(initialCapacity);
+        }
+    }
+
+
+    /**
+     * Constructor that creates an empty OffHeapArrayList with default
+     * capacity of 10.
+     *
+     * @param codec the codec used to encode and decode elements
+     */
+    public OffHeapArrayList(Codec<E> codec)
+    {
+        this(codec, DEFAULT_LENGTH_ARRAY);
+    }
+
+
+    /**
+     * Returns the size of the OffHeapArrayList.
+     *
+     * @return the size of the OffHeapArrayList
+     */
+    public long size()
+    {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if the OffHeapArrayList is empty, false otherwise.
+     *
+     * @return true if the OffHeapArrayList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns element at the specified index.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws IllegalStateException if the list has been closed
+     */
+    public E get(long index)
+    {
+        checkOpen();
+        checkRange(index);
+        return _codec.read(chunkFor(index), offsetOf(index));
+    }
+
+
+    /**
+     * Returns the index of the specified element
+     *
+     * @param element the element to check for
+     * @return the index of the element or -1 if the element isn't found
+     * @throws IllegalStateException if the list has been closed
+     */
+    public long indexOf(E element)
+    {
+        checkOpen();
+
+        long index = -1;
+
+        for (long i = 0; i < this.size() && index == -1; i++)
+        {
+            E value = get(i);
+
+            if (element == null ? value == null : element.equals(value))
+            {
+                index = i;
+            }
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Appends the specified element to the end of the OffHeapArrayList.
+     *
+     * @param element the element to add
+     * @return true if the element was added
+     *
+     * @throws NullPointerException if element is null and the codec cannot
+     *         encode null
+     * @throws IllegalStateException if the list has been closed
+     */
+    public boolean add(E element)
+    {
+        checkOpen();
+        checkCapacityNeeded(this._size + 1);
+
+        _codec.write(chunkFor(this._size), offsetOf(this._size), element);
+        this._size++;
+
+        return true;
+    }
+
+
+    /**
+     * Adds the specified element at the specified index. Records after the
+     * index are shifted one chunk at a time.
+     *
+     * @param index the index to add the element at
+     * @param element the element to add
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws NullPointerException if element is null and the codec cannot
+     *         encode null
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void add(long index, E element)
+    {
+        checkOpen();
+        checkIndex(index);
+        checkCapacityNeeded(this._size + 1);
+
+        int first = chunkIndexOf(index);
+        int last = chunkIndexOf(this._size);
+
+        // shift each later chunk right by one, carrying in the last record
+        // of the chunk before it
+        for (int c = last; c > first; c--)
+        {
+            ByteBuffer chunk = _chunks[c];
+            int length = (c == last) ? recordOf(this._size) : _chunkMask;
+
+            moveRecords(chunk, 0, 1, length);
+            copyRecord(_chunks[c - 1], _chunkMask, chunk, 0);
+        }
+
+        ByteBuffer chunk = _chunks[first];
+        int record = recordOf(index);
+        int end = (first == last) ? recordOf(this._size) : _chunkMask;
+
+        moveRecords(chunk, record, record + 1, end - record);
+
+        try
+        {
+            _codec.write(chunk, offsetOf(index), element);
+        }
+        catch (RuntimeException e)
+        {
+            // the codec rejected the element, close the gap again
+            closeGap(index, this._size);
+            throw e;
+        }
+
+        this._size++;
+    }
+
+
+    /**
+     * Removes the element at the specified index. Records after the index
+     * are shifted one chunk at a time.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws IllegalStateException if the list has been closed
+     */
+    public E remove(long index)
+    {
+        checkOpen();
+        checkRange(index);
+
+        E remElement = get(index);
+
+        closeGap(index, this._size - 1);
+        this._size--;
+
+        return remElement;
+    }
+
+
+    /**
+     * Returns the old element at the specified index and replaces it with the
+     * new specified element.
+     *
+     * @param index the index to find the position to set the specified element
+     * @param element the element to set at the specified index
+     *
+     * @return the previous element at the specified index
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws NullPointerException if element is null and the codec cannot
+     *         encode null
+     * @throws IllegalStateException if the list has been closed
+     */
+    public E set(long index, E element)
+    {
+        checkOpen();
+        checkRange(index);
+
+        E prevElement = get(index);
+        _codec.write(chunkFor(index), offsetOf(index), element);
+
+        return prevElement;
+    }
+
+
+    /**
+     * Sets the size to 0. The native memory is kept for reuse.
+     */
+    public void clear()
+    {
+        this._size = 0;
+    }
+
+
+    /**
+     * Releases the native memory of every chunk right away. Afterwards the
+     * size is 0, and any later get, set, add, remove or indexOf throws an
+     * IllegalStateException. Closing a list that is already closed does
+     * nothing.
+     */
+    @Override
+    public void close()
+    {
+        if (this._chunks != null)
+        {
+            for (int c = 0; c < _chunkCount; c++)
+            {
+                free(_chunks[c]);
+            }
+
+            this._chunks = null;
+            this._chunkCount = 0;
+            this._capacity = 0;
+            this._size = 0;
+        }
+    }
+
+
+    /**
+     * Returns the chunk holding the record at the given index.
+     *
+     * @param index the index of the record
+     * @return the chunk holding the record
+     * @throws IllegalStateException if the list has been closed
+     */
+    private ByteBuffer chunkFor(long index)
+    {
+        checkOpen();
+
+        return this._chunks[chunkIndexOf(index)];
+    }
+
+
+    /**
+     * Checks the list has not been closed.
+     *
+     * @throws IllegalStateException if the list has been closed
+     */
+    private void checkOpen()
+    {
+        if (this._chunks == null)
+        {
+            throw new IllegalStateException("List has been closed.");
+        }
+    }
+
+
+    /**
+     * Returns the position in the directory of the chunk holding the index.
+     *
+     * @param index the index in question
+     * @return the position of the chunk in the directory
+     */
+    private int chunkIndexOf(long index)
+    {
+        return (int) (index >>> _chunkShift);
+    }
+
+
+    /**
+     * Returns the position of the record within its chunk.
+     *
+     * @param index the index of the record
+     * @return the record's position within its chunk
+     */
+    private int recordOf(long index)
+    {
+        return (int) index & _chunkMask;
+    }
+
+
+    /**
+     * Returns the byte offset of the record within its chunk.
+     *
+     * @param index the index of the record
+     * @return the byte offset of the record within its chunk
+     */
+    private int offsetOf(long index)
+    {
+        return recordOf(index) * _recordSize;
+    }
+
+
+    /**
+     * Shifts every record after the index, up to lastIndex, left by one, one
+     * chunk at a time, overwriting the record at the index.
+     *
+     * @param index the index of the record to overwrite
+     * @param lastIndex the index of the last record to shift
+     */
+    private void closeGap(long index, long lastIndex)
+    {
+        int first = chunkIndexOf(index);
+        int last = chunkIndexOf(lastIndex);
+
+        ByteBuffer chunk = _chunks[first];
+        int record = recordOf(index);
+        int end = (first == last) ? recordOf(lastIndex) : _chunkMask;
+
+        moveRecords(chunk, record + 1, record, end - record);
+
+        // shift each later chunk left by one, carrying its first record
+        // into the last slot of the chunk before it
+        for (int c = first + 1; c <= last; c++)
+        {
+            ByteBuffer next = _chunks[c];
+            int length = (c == last) ? recordOf(lastIndex) : _chunkMask;
+
+            copyRecord(next, 0, _chunks[c - 1], _chunkMask);
+            moveRecords(next, 1, 0, length);
+        }
+    }
+
+
+    /**
+     * Copies one record from one chunk to another.
+     *
+     * @param from the chunk to copy from
+     * @param fromRecord the position of the record in from
+     * @param to the chunk to copy to
+     * @param toRecord the position of the record in to
+     */
+    private void copyRecord(ByteBuffer from, int fromRecord,
+                            ByteBuffer to, int toRecord)
+    {
+        int src = fromRecord * _recordSize;
+        int dst = toRecord * _recordSize;
+        int i = 0;
+
+        for (; i + Long.BYTES <= _recordSize; i += Long.BYTES)
+        {
+            to.putLong(dst + i, from.getLong(src + i));
+        }
+
+        for (; i < _recordSize; i++)
+        {
+            to.put(dst + i, from.get(src + i));
+        }
+    }
+
+
+    /**
+     * Moves a run of records within one chunk. The copy direction is chosen
+     * so overlapping source and destination ranges are handled correctly.
+     *
+     * @param chunk the chunk holding the records
+     * @param from the position of the first record to move
+     * @param to the position the first record is moved to
+     * @param count the number of records to move
+     */
+    private void moveRecords(ByteBuffer chunk, int from, int to, int count)
+    {
+        int src = from * _recordSize;
+        int dst = to * _recordSize;
+        int length = count * _recordSize;
+
+        if (dst < src)
+        {
+            int i = 0;
+
+            for (; i + Long.BYTES <= length; i += Long.BYTES)
+            {
+                chunk.putLong(dst + i, chunk.getLong(src + i));
+            }
+
+            for (; i < length; i++)
+            {
+                chunk.put(dst + i, chunk.get(src + i));
+            }
+        }
+        else if (dst > src)
+        {
+            int i = length;
+
+            for (; i - Long.BYTES >= 0; i -= Long.BYTES)
+            {
+                chunk.putLong(dst + i - Long.BYTES,
+                              chunk.getLong(src + i - Long.BYTES));
+            }
+
+            for (; i > 0; i--)
+            {
+                chunk.put(dst + i - 1, chunk.get(src + i - 1));
+            }
+        }
+    }
+
+
+    /**
+     * Checks the index is greater than the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkIndex(long index)
+    {
+        if (index < 0 || index > this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid Index: %d", index));
+        }
+    }
+
+
+    /**
+     * Checks the index is greater than or equal to the size or less than 0
+     *
+     * @param index the index in question
+     */
+    private void checkRange(long index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid index"));
+        }
+    }
+
+
+    /**
+     * Grows capacity until the given number of records fit. While there is
+     * only one chunk and it is smaller than a full chunk, it is doubled into
+     * a new buffer and the old one is freed. After that, whole chunks are
+     * added and no record is ever copied.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws IllegalStateException if the list has been closed
+     */
+    private void grow(long minCapacity)
+    {
+        checkOpen();
+
+        long chunkRecords = _chunkMask + 1L;
+
+        if (this._capacity < chunkRecords)
+        {
+            long newCapacity = Math.max(this._capacity * 2, minCapacity);
+            newCapacity = Math.min(newCapacity, chunkRecords);
+
+            ByteBuffer newChunk = allocate((int) newCapacity);
+
+            if (_chunkCount > 0)
+            {
+                ByteBuffer claimed = _chunks[0].duplicate();
+
+                claimed.position(0).limit((int) this._size * _recordSize);
+                newChunk.put(claimed);
+                newChunk.clear();
+                free(_chunks[0]);
+            }
+
+            _chunks[0] = newChunk;
+            this._chunkCount = 1;
+            this._capacity = newCapacity;
+        }
+
+        while (this._capacity < minCapacity)
+        {
+            if (_chunkCount == _chunks.length)
+            {
+                if (_chunkCount == Integer.MAX_VALUE - 8)
+                {
+                    throw new OutOfMemoryError("Overflow");
+                }
+
+                int newLength = (int) Math.min(_chunkCount * 2L,
+                                               Integer.MAX_VALUE - 8);
+                this._chunks = Arrays.copyOf(_chunks, newLength);
+            }
+
+            _chunks[_chunkCount++] = allocate((int) chunkRecords);
+            this._capacity += chunkRecords;
+        }
+    }
+
+
+    /**
+     * Ensures the chunks have enough capacity
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void checkCapacityNeeded(long minCapacity)
+    {
+        if (size() == 0)
+        {
+            minCapacity = Math.max(DEFAULT_LENGTH_ARRAY, minCapacity);
+        }
+
+        if (minCapacity - this._capacity > 0)
+        {
+            grow(minCapacity);
+        }
+    }
+
+
+    /**
+     * Allocates a direct buffer in native byte order for the given number of
+     * records.
+     *
+     * @param records the number of records
+     * @return a new direct buffer
+     */
+    private ByteBuffer allocate(int records)
+    {
+        return ByteBuffer.allocateDirect(records * _recordSize)
+                         .order(ByteOrder.nativeOrder());
+    }
+
+
+    /**
+     * Releases the native memory of a direct buffer now, if the running JVM
+     * allows it. Otherwise the buffer's Cleaner releases it once the buffer
+     * is no longer reachable.
+     *
+     * @param buffer the buffer to release, which must not be used again
+     */
+    private static void free(ByteBuffer buffer)
+    {
+        if (INVOKE_CLEANER != null)
+        {
+            try
+            {
+                INVOKE_CLEANER.invokeExact(buffer);
+            }
+            catch (Throwable e)
+            {
+                // the buffer's Cleaner still releases it later
+            }
+        }
+    }
+
+
+    /**
+     * Looks up Unsafe.invokeCleaner, which runs a direct buffer's Cleaner
+     * immediately. It is exported by the jdk.unsupported module.
+     *
+     * @return a handle taking a ByteBuffer, or null if it is not available
+     */
+    private static MethodHandle findCleaner()
+    {
+        MethodHandle cleaner = null;
+
+        try
+        {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+
+            theUnsafe.setAccessible(true);
+            cleaner = MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner",
+                             MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            // leave releasing to the buffers' Cleaners
+        }
+
+        return cleaner;
+    }
+
+
+    /**
+     * Returns new OffHeapArrayListIterator
+     *
+     * @return new OffHeapArrayListIterator
+     * @see OffHeapArrayListIterator
+     * @see Iterator
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new OffHeapArrayListIterator();
+    }
+
+
+    /**
+     * Codec that converts elements to and from fixed-size records in a
+     * ByteBuffer. Every record written by a codec must be exactly
+     * byteSize() bytes long, and byteSize() must be at most 16 MiB. The
+     * buffers passed in use the platform's native byte order.
+     *
+     * @param <T> the type of element being encoded
+     */
+    public interface Codec<T>
+    {
+        /**
+         * Returns the number of bytes in each encoded record.
+         *
+         * @return the number of bytes in each encoded record
+         */
+        int byteSize();
+
+
+        /**
+         * Encodes an element into the buffer at the given byte offset.
+         *
+         * @param buffer the buffer to write to
+         * @param offset the byte offset of the record
+         * @param element the element to encode
+         * @throws NullPointerException if element is null and the codec
+         *         cannot encode null
+         */
+        void write(ByteBuffer buffer, int offset, T element);
+
+
+        /**
+         * Decodes the element stored at the given byte offset.
+         *
+         * @param buffer the buffer to read from
+         * @param offset the byte offset of the record
+         * @return the decoded element
+         */
+        T read(ByteBuffer buffer, int offset);
+    }
+
+
+    /**
+     * OffHeapArrayListIterator implementing Iterator interface
+     *
+     * @author hzhu20@georgefox.edu
+     *
+     * @see Iterator
+     * @see OffHeapArrayList
+     */
+    private class OffHeapArrayListIterator implements Iterator<E>
+    {
+        // current index points to the next element to be returned
+        private long _index;
+
+
+        /**
+         * Constructs an OffHeapArrayListIterator
+         */
+        public OffHeapArrayListIterator()
+        {
+            this._index = 0;
+        }
+
+
+        /**
+         * Returns true if the OffHeapArrayListIterator has a next element,
+         * false otherwise.
+         *
+         * @return true if the OffHeapArrayListIterator has a next element
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return _index < size();
+        }
+
+
+        /**
+         * Returns the next element in the OffHeapArrayListIterator.
+         *
+         * @return the next element in the OffHeapArrayListIterator
+         * @throws NoSuchElementException {@inheritDoc}
+         */
+        @Override
+        public E next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            long index = _index++;
+
+            return _codec.read(chunkFor(index), offsetOf(index));
+        }
+    }
+}
@@ -1,5 +1,7 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * Queue class which is a data structure that implements the Iterable
@@ -10,18 +12,43 @@ import java.util.NoSuchElementException;
  */
 public class Queue<E> implements Iterable<E> {
 
-    private QueueNode _front;  // the front of the queue
-    private QueueNode _rear;   // the tail of the queue
-    private int _size;         // the size of the queue
+    private QueueNode _front;         // the front of the queue
+    private QueueNode _rear;          // the tail of the queue
+    private int _size;                // the size of the queue
+    private int _modCount;            // modification count
+    private QueueNode _freeNodes;     // recycled nodes, linked by next
+    private int _freeCount;           // number of recycled nodes
+    private final int _maxFreeNodes;  // most nodes kept for reuse
+    private long _nodesAllocated;     // nodes created with new
+    private long _nodesReused;        // nodes taken from the free list
 
 
     /**
      * Constructor for objects of class Queue
      */
     public Queue() {
+        this(0);
+    }
+
+
+    /**
+     * Constructor for a Queue that keeps up to maxFreeNodes dequeued nodes
+     * and reuses them for later enqueues instead of allocating new ones.
+     *
+     * @param maxFreeNodes the most dequeued nodes to keep, 0 to disable
+     *
+     * @throws IllegalArgumentException if maxFreeNodes is negative
+     */
+    public Queue(int maxFreeNodes) {
+
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+
         this._front = null;
         this._rear = null;
         this._size = 0;
+        this._maxFreeNodes = maxFreeNodes;
     }
 
 
@@ -37,8 +64,8 @@ public class Queue<E> implements Iterable<E> {
         // whether the element is added
         boolean added = false;
 
-        // create a new node
-        QueueNode newNode = new QueueNode(element);
+        // create a new node, reusing a recycled one if there is one
+        QueueNode newNode = obtainNode(element);
 
         // if the queue is empty
         if (this._front == null) {
@@ -68,13 +95,16 @@ public class Queue<E> implements Iterable<E> {
             this._size++;
         }
 
+        this._modCount++;
+
         // return whether the element is added
         return added;
     }
 
     
     /**
-     * Create an iterator for the queue.
+     * Create an iterator for the queue that walks from the front to the
+     * rear without dequeueing anything.
      *
      * @return an iterator for the queue
      */
@@ -113,14 +143,26 @@ public class Queue<E> implements Iterable<E> {
         // if the queue is not empty
         if (this._front != null) {
 
+            // the node being dequeued
+            QueueNode front = this._front;
+
             // set the result to the front element
-            dequeued = this._front.getElement();
+            dequeued = front.getElement();
 
             // set the front to the next element
-            this._front = this._front.getNext();
+            this._front = front.getNext();
+
+            // the queue is empty, so there is no rear either
+            if (this._front == null) {
+                this._rear = null;
+            }
 
             // decrease the size of the queue
             this._size--;
+            this._modCount++;
+
+            // hand the node back for reuse
+            recycleNode(front);
         }
 
         return dequeued;
@@ -147,6 +189,27 @@ public class Queue<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Returns the number of nodes this queue has allocated.
+     *
+     * @return the number of nodes created with new
+     */
+    public long nodesAllocated() {
+        return this._nodesAllocated;
+    }
+
+
+    /**
+     * Returns the number of nodes this queue has reused from its free list
+     * instead of allocating.
+     *
+     * @return the number of nodes taken from the free list
+     */
+    public long nodesReused() {
+        return this._nodesReused;
+    }
+
+
     /**
      * Returns the head of the queue.
      * 
@@ -173,26 +236,128 @@ public class Queue<E> implements Iterable<E> {
         this._front = null;
         this._rear = null;
         this._size = 0;
+        this._modCount++;
+    }
+
+
+    /**
+     * Remove up to max elements from the front of the queue, in the order
+     * dequeue would return them, and hand each one to consumer. This is
+     * the explicit way to empty the queue; iterating over it does not.
+     *
+     * @param consumer receives each removed element
+     * @param max the most elements to remove
+     * @return the number of elements removed
+     *
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int drainTo(Consumer<? super E> consumer, int max) {
+
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int drained = 0;
+
+        while (drained < max && !isEmpty()) {
+            consumer.accept(dequeue());
+            drained++;
+        }
+
+        return drained;
+    }
+
+
+    /**
+     * Take a node from the free list, or allocate one if the free list
+     * is empty, and store element in it.
+     *
+     * @param element the element to be stored
+     * @return a node holding element with no next node
+     */
+    private QueueNode obtainNode(E element) {
+
+        QueueNode node = this._freeNodes;
+
+        if (node == null) {
+
+            // nothing to reuse, allocate a new node
+            node = new QueueNode(element);
+            this._nodesAllocated++;
+
+        } else {
+
+            // pop the node off the free list
+            this._freeNodes = node.getNext();
+            this._freeCount--;
+            this._nodesReused++;
+
+            node.setNext(null);
+            node.setElement(element);
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Put a node that has been dequeued on the free list if there is
+     * room for it.
+     *
+     * @param node the node to be recycled
+     */
+    private void recycleNode(QueueNode node) {
+
+        if (this._freeCount < this._maxFreeNodes) {
+
+            // drop the element so the free list does not keep it alive
+            node.setElement(null);
+
+            // push the node onto the free list
+            node.setNext(this._freeNodes);
+            this._freeNodes = node;
+            this._freeCount++;
+        }
     }
 
 
     /**
-     * QueueIterator class which is an iterator for the queue.
+     * QueueIterator class which is an iterator for the queue. It follows
+     * the next references from the front and leaves the queue unchanged.
      *
      * @author hzhu20@georgefox.edu
      * @version 1.0
      */
     private class QueueIterator implements Iterator<E> {
 
+        private QueueNode _current;     // node holding the next element
+        private int _expectedModCount;  // tracking queue changes
+
+
+        /**
+         * Constructs an iterator that starts at the front of the queue.
+         */
+        public QueueIterator() {
+            this._current = _front;
+            this._expectedModCount = _modCount;
+        }
+
 
         /**
          * Method to check if the iterator has a next element.
          *
          * @return true if the iterator has a next element, false otherwise
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            return !isEmpty();
+
+            if (this._expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return this._current != null;
         }
 
 
@@ -202,27 +367,18 @@ public class Queue<E> implements Iterable<E> {
          * @return the next element in the queue
          *
          * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public E next() {
 
-            // if the queue is empty
-            if (_front == null) {
+            if (!hasNext()) {
                 throw new NoSuchElementException();
             }
 
-            // the next element in the queue
-            E next = null;
-
-            // if the iterator has a next element
-            if (hasNext()) {
-
-                // set the next element to the current element
-                next = _front.getElement();
-
-                // Dequeue the current node from the queue to get next node
-                dequeue();
-            }
+            // take the current element and move towards the rear
+            E next = this._current.getElement();
+            this._current = this._current.getNext();
 
             return next;
         }
@@ -260,6 +416,16 @@ public class Queue<E> implements Iterable<E> {
         }
 
 
+        /**
+         * Sets the element in the node.
+         *
+         * @param element the element in the node
+         */
+        public void setElement(E element) {
+            this._element = element;
+        }
+
+
         /**
          * Method to get the next node in the queue.
          *
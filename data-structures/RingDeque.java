@@ -0,0 +1,465 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Class RingDeque is a double-ended queue with the same operations as
+ * Deque, stored in a circular array instead of a chain of nodes. The
+ * array length is always a power of two, so positions wrap with a mask
+ * rather than a division, and enqueueing or dequeueing at either end
+ * allocates nothing unless the array has to grow.
+ *
+ * The array doubles when it is full. A deque created with shrink set also
+ * halves its array when no more than a quarter of it is in use, down to
+ * the initial capacity.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see Deque
+ */
+public class RingDeque<E> implements Iterable<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;      // default slots
+    private static final int MAX_CAPACITY = 1 << 30;     // largest array
+
+    private Object[] _elements;     // circular array of elements
+    private int _mask;              // array length minus one
+    private int _head;              // slot of the head element
+    private int _size;              // number of elements in the deque
+    private int _modCount;          // modification count
+    private final int _minCapacity; // smallest length the array shrinks to
+    private final boolean _shrink;  // whether the array shrinks
+
+
+    /**
+     * Constructs an empty deque with room for 16 elements that never
+     * shrinks.
+     */
+    public RingDeque() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+
+    /**
+     * Constructs an empty deque with room for at least initialCapacity
+     * elements, rounded up to a power of two.
+     *
+     * @param initialCapacity the number of elements to make room for
+     * @param shrink true to halve the array when it is a quarter full
+     *
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     *         or is more than 2^30
+     */
+    public RingDeque(int initialCapacity, boolean shrink) {
+
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+
+        // round up to the next power of two
+        int capacity = Integer.highestOneBit(initialCapacity);
+
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+
+        this._elements = new Object[capacity];
+        this._mask = capacity - 1;
+        this._head = 0;
+        this._size = 0;
+        this._minCapacity = capacity;
+        this._shrink = shrink;
+    }
+
+
+    /**
+     * Method to add an item to the tail of the deque
+     *
+     * @param element the element to be added
+     *
+     * @return true if the element is added
+     */
+    public boolean enqueue(E element) {
+
+        if (this._size == this._elements.length) {
+            grow();
+        }
+
+        this._elements[(this._head + this._size) & this._mask] = element;
+        this._size++;
+        this._modCount++;
+
+        return true;
+    }
+
+
+    /**
+     * Enqueue all elements of an iterable into the deque.
+     *
+     * @param elements the elements to be enqueued
+     */
+    public void enqueueAll(Iterable<E> elements) {
+
+        for (E element : elements) {
+            enqueue(element);
+        }
+    }
+
+
+    /**
+     * Enqueue at head of the deque.
+     *
+     * @param element the element to be added to the head of the deque
+     *
+     * @return true if the element is added
+     */
+    public boolean enqueueHead(E element) {
+
+        if (this._size == this._elements.length) {
+            grow();
+        }
+
+        // step the head back one slot, wrapping to the end of the array
+        this._head = (this._head - 1) & this._mask;
+        this._elements[this._head] = element;
+        this._size++;
+        this._modCount++;
+
+        return true;
+    }
+
+
+    /**
+     * Returns the head of the deque.
+     *
+     * @return the head of the deque element
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E head() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return elementAt(this._head);
+    }
+
+
+    /**
+     * Returns the tail of the deque.
+     *
+     * @return the tail of the deque element
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E tail() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return elementAt(tailSlot());
+    }
+
+
+    /**
+     * Method to remove an item from the head of the deque
+     *
+     * @return the element removed from the head of the deque
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E dequeue() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        E element = elementAt(this._head);
+
+        // drop the reference and move the head forward
+        this._elements[this._head] = null;
+        this._head = (this._head + 1) & this._mask;
+        this._size--;
+        this._modCount++;
+
+        shrinkIfSparse();
+
+        return element;
+    }
+
+
+    /**
+     * Method to remove an item from the tail of the deque
+     *
+     * @return the element removed from the tail of the deque
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E dequeueTail() {
+
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        int tail = tailSlot();
+        E element = elementAt(tail);
+
+        // drop the reference, the head stays where it is
+        this._elements[tail] = null;
+        this._size--;
+        this._modCount++;
+
+        shrinkIfSparse();
+
+        return element;
+    }
+
+
+    /**
+     * Clears the deque.
+     */
+    public void clear() {
+
+        if (this._shrink && this._elements.length > this._minCapacity) {
+
+            // give the large array back
+            this._elements = new Object[this._minCapacity];
+            this._mask = this._minCapacity - 1;
+
+        } else {
+            Arrays.fill(this._elements, null);
+        }
+
+        this._head = 0;
+        this._size = 0;
+        this._modCount++;
+    }
+
+
+    /**
+     * Remove up to max elements from the head of the deque, in the order
+     * dequeue would return them, and hand each one to consumer. This is
+     * the explicit way to empty the deque; iterating over it does not.
+     *
+     * @param consumer receives each removed element
+     * @param max the most elements to remove
+     * @return the number of elements removed
+     *
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int drainTo(Consumer<? super E> consumer, int max) {
+
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int drained = 0;
+
+        while (drained < max && !isEmpty()) {
+            consumer.accept(dequeue());
+            drained++;
+        }
+
+        return drained;
+    }
+
+
+    /**
+     * Method to check if the deque is empty
+     *
+     * @return true if the deque is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this._size == 0;
+    }
+
+
+    /**
+     * Method to get the size of the deque
+     *
+     * @return the size of the deque
+     */
+    public int depth() {
+        return this._size;
+    }
+
+
+    /**
+     * Returns the length of the circular array.
+     *
+     * @return the number of elements the deque holds before growing
+     */
+    public int capacity() {
+        return this._elements.length;
+    }
+
+
+    /**
+     * Create an iterator over the elements in the deque, from head to tail.
+     * The iterator does not remove anything.
+     *
+     * @return an iterator over the elements in the deque
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new RingDequeIterator(false);
+    }
+
+
+    /**
+     * Create a reverse iterator over the elements in the deque, from tail
+     * to head. The iterator does not remove anything.
+     *
+     * @return a reverse iterator over the elements in the deque
+     */
+    public Iterator<E> reverseIterator() {
+        return new RingDequeIterator(true);
+    }
+
+
+    /**
+     * Returns the element in the given slot.
+     *
+     * @param slot the slot in the array
+     * @return the element in the slot
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) this._elements[slot];
+    }
+
+
+    /**
+     * Returns the slot of the tail element.
+     *
+     * @return the slot of the tail element
+     */
+    private int tailSlot() {
+        return (this._head + this._size - 1) & this._mask;
+    }
+
+
+    /**
+     * Double the length of the array.
+     */
+    private void grow() {
+
+        if (this._elements.length == MAX_CAPACITY) {
+            throw new OutOfMemoryError("Overflow");
+        }
+
+        resize(this._elements.length << 1);
+    }
+
+
+    /**
+     * Halve the length of the array if shrinking is on, no more than a
+     * quarter of it is in use, and it is larger than the initial capacity.
+     * Waiting for a quarter rather than a half keeps a deque hovering at
+     * one size from growing and shrinking over and over.
+     */
+    private void shrinkIfSparse() {
+
+        int capacity = this._elements.length;
+
+        if (this._shrink && capacity > this._minCapacity
+            && this._size <= (capacity >>> 2)) {
+            resize(capacity >>> 1);
+        }
+    }
+
+
+    /**
+     * Copy the elements, in order, to the start of a new array.
+     *
+     * @param newCapacity the length of the new array, a power of two
+     */
+    private void resize(int newCapacity) {
+
+        Object[] newElements = new Object[newCapacity];
+
+        // the elements run from the head to the end of the array and then
+        // wrap around to the start
+        int firstPart = Math.min(this._size, this._elements.length - this._head);
+
+        System.arraycopy(this._elements, this._head, newElements, 0, firstPart);
+        System.arraycopy(this._elements, 0, newElements, firstPart,
+                         this._size - firstPart);
+
+        this._elements = newElements;
+        this._mask = newCapacity - 1;
+        this._head = 0;
+    }
+
+
+    /**
+     * RingDequeIterator walks the circular array forward or backward
+     * without changing the deque.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class RingDequeIterator implements Iterator<E> {
+
+        private int _offset;            // elements delivered so far
+        private final boolean _reverse; // tracks if the iterator is reversed
+        private int _expectedModCount;  // tracking deque changes
+
+
+        /**
+         * Constructs an iterator for the deque.
+         *
+         * @param reverse true to iterate from the tail to the head
+         */
+        public RingDequeIterator(boolean reverse) {
+            this._offset = 0;
+            this._reverse = reverse;
+            this._expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Checks if there is a next element in the deque.
+         *
+         * @return true if there is a next element in the deque, false otherwise
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+
+            if (this._expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return this._offset < _size;
+        }
+
+
+        /**
+         * Returns the next element in the deque.
+         *
+         * @return the next element in the deque
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        @Override
+        public E next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int position = this._reverse ? _size - 1 - this._offset
+                                         : this._offset;
+            this._offset++;
+
+            return elementAt((_head + position) & _mask);
+        }
+    }
+}
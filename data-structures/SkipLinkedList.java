@@ -0,0 +1,498 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Class SkipLinkedList of type E is a doubly-linked list with skip list
+ * express lanes laid over it. Each express link records its span, the
+ * number of elements it jumps over, so a position can be found by
+ * descending the lanes instead of walking the list. That makes get, set,
+ * add at an index and remove at an index O(log n) on average, while
+ * iteration in either direction is still a plain walk of the bottom lane.
+ *
+ * The public API matches LinkedList.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see LinkedList
+ */
+public class SkipLinkedList<E> implements Iterable<E> {
+
+    private static final int MAX_LEVEL = 32;  // most lanes a node can be in
+
+    private final SkipNode _head;  // sentinel at the start of every lane
+    private SkipNode _tail;        // last node of the bottom lane
+    private int _levels;           // number of lanes in use
+    private int _size;             // number of elements
+    private int _modCount;         // modification count
+
+
+    /**
+     * Constructs an empty list.
+     */
+    public SkipLinkedList() {
+        _head = new SkipNode(null, MAX_LEVEL);
+        _tail = null;
+        _levels = 1;
+        _size = 0;
+    }
+
+
+    /**
+     * Append an element at the tail of the list.
+     *
+     * @param element the element to be appended
+     * @return true if the element is added
+     */
+    public boolean add(E element) {
+        add(this.size(), element);
+        return true;
+    }
+
+
+    /**
+     * Insert an element into the list at the specified index.
+     *
+     * @param index the index at which the element is to be inserted
+     * @param element the element to be inserted
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(int index, E element) {
+
+        // the index may be anywhere from the head up to just past the tail
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        // the last node before the new one in each lane, and its rank
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SkipNode[] update = (SkipNode[]) new SkipLinkedList.SkipNode[MAX_LEVEL];
+        int[] ranks = new int[MAX_LEVEL];
+
+        findPredecessors(index, update, ranks);
+
+        // pick how many lanes the new node is in, opening new lanes if needed
+        int level = randomLevel();
+
+        for (int lane = _levels; lane < level; lane++) {
+            update[lane] = _head;
+            ranks[lane] = 0;
+            _head._next[lane] = null;
+        }
+
+        _levels = Math.max(_levels, level);
+
+        // ranks count from 1, with the sentinel at rank 0
+        int rank = index + 1;
+        SkipNode newNode = new SkipNode(element, level);
+
+        for (int lane = 0; lane < level; lane++) {
+
+            SkipNode before = update[lane];
+
+            // the new node jumps to where its predecessor used to jump,
+            // which is now one element further away
+            newNode._next[lane] = before._next[lane];
+            newNode._span[lane] = before._span[lane] - (rank - ranks[lane]) + 1;
+
+            // the predecessor now jumps to the new node
+            before._next[lane] = newNode;
+            before._span[lane] = rank - ranks[lane];
+        }
+
+        // links in higher lanes now jump over one more element
+        for (int lane = level; lane < _levels; lane++) {
+            update[lane]._span[lane]++;
+        }
+
+        // keep the bottom lane doubly linked
+        newNode._prev = (update[0] == _head) ? null : update[0];
+
+        if (newNode._next[0] == null) {
+            _tail = newNode;
+        } else {
+            newNode._next[0]._prev = newNode;
+        }
+
+        // update the size and modification count
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Remove the element at the specified index.
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E remove(int index) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        // the last node before the removed one in each lane
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SkipNode[] update = (SkipNode[]) new SkipLinkedList.SkipNode[MAX_LEVEL];
+        int[] ranks = new int[MAX_LEVEL];
+
+        findPredecessors(index, update, ranks);
+
+        SkipNode target = update[0]._next[0];
+
+        for (int lane = 0; lane < _levels; lane++) {
+
+            SkipNode before = update[lane];
+
+            if (before._next[lane] == target) {
+
+                // bypass the target, taking over its jump
+                before._next[lane] = target._next[lane];
+                before._span[lane] += target._span[lane] - 1;
+
+            } else {
+
+                // the link jumps over one less element
+                before._span[lane]--;
+            }
+        }
+
+        // keep the bottom lane doubly linked
+        if (target._next[0] == null) {
+            _tail = target._prev;
+        } else {
+            target._next[0]._prev = target._prev;
+        }
+
+        // close lanes that no longer hold any node
+        while (_levels > 1 && _head._next[_levels - 1] == null) {
+            _levels--;
+        }
+
+        // update the size and modification count
+        _size--;
+        _modCount++;
+
+        return target._value;
+    }
+
+
+    /**
+     * Get the element at the specified index.
+     *
+     * @param index the index of the element to be returned
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E get(int index) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        return seek(index)._value;
+    }
+
+
+    /**
+     * Set the element at the specified index.
+     *
+     * @param index the index of the element to be set
+     * @param element the element to be set
+     * @return the element that was replaced
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E set(int index, E element) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        SkipNode node = seek(index);
+        E oldElement = node._value;
+
+        node._value = element;
+
+        return oldElement;
+    }
+
+
+    /**
+     * Clears the list of all elements, reseting the size to 0.
+     */
+    public void clear() {
+
+        // cut every lane off at the sentinel
+        for (int lane = 0; lane < MAX_LEVEL; lane++) {
+            _head._next[lane] = null;
+            _head._span[lane] = 0;
+        }
+
+        _tail = null;
+        _levels = 1;
+
+        // reset the size and update the modification count
+        _size = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the element, or -1 if
+     * this list does not contain the element.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of the element in this
+     *         list, or -1 if this list does not contain the element
+     */
+    public int indexOf(E element) {
+
+        // index is negative if element is not found
+        int index = -1;
+        int i = 0;
+
+        for (SkipNode node = _head._next[0]; node != null && index == -1;
+             node = node._next[0]) {
+
+            if (element == null ? node._value == null
+                                : element.equals(node._value)) {
+                index = i;
+            }
+
+            i++;
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Creates a new SkipListIterator that iterates over this list.
+     *
+     * @return a new SkipListIterator that iterates over this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SkipListIterator(false);
+    }
+
+
+    /**
+     * Creates a new SkipListIterator that iterates over this list in
+     * reverse.
+     *
+     * @return a new SkipListIterator that iterates over this list in
+     *         reverse
+     */
+    public Iterator<E> reverseIterator() {
+        return new SkipListIterator(true);
+    }
+
+
+    /**
+     * Checks the index to see if index is less than 0 or greater than
+     * or equal to the size.
+     *
+     * @param index the index to be checked
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    private void checkRange(int index) {
+
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    /**
+     * Descend the lanes to find, in each lane, the last node that comes
+     * before the element at index, along with that node's rank.
+     *
+     * @param index the index whose predecessors are to be found
+     * @param update receives the predecessor in each lane
+     * @param ranks receives the rank of each predecessor
+     */
+    private void findPredecessors(int index, SkipNode[] update, int[] ranks) {
+
+        SkipNode node = _head;
+        int rank = 0;
+
+        for (int lane = _levels - 1; lane >= 0; lane--) {
+
+            // move along the lane while the next node is still before index
+            while (node._next[lane] != null
+                   && rank + node._span[lane] <= index) {
+                rank += node._span[lane];
+                node = node._next[lane];
+            }
+
+            update[lane] = node;
+            ranks[lane] = rank;
+        }
+    }
+
+
+    /**
+     * Descend the lanes to the node at index.
+     *
+     * @param index the index to be found, which must be in range
+     * @return the node at the index
+     */
+    private SkipNode seek(int index) {
+
+        SkipNode node = _head;
+        int rank = 0;
+        int target = index + 1;
+
+        for (int lane = _levels - 1; lane >= 0 && rank != target; lane--) {
+
+            // move along the lane without overshooting the target rank
+            while (node._next[lane] != null
+                   && rank + node._span[lane] <= target) {
+                rank += node._span[lane];
+                node = node._next[lane];
+            }
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Pick the number of lanes for a new node, each extra lane being half
+     * as likely as the one below it.
+     *
+     * @return a level between 1 and MAX_LEVEL
+     */
+    private int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Integer.numberOfTrailingZeros(bits | (1 << (MAX_LEVEL - 1))) + 1;
+    }
+
+
+    /**
+     * SkipNode class that stores an element, its links in each lane it is
+     * in along with the span of each link, and its previous node in the
+     * bottom lane.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class SkipNode {
+
+        private E _value;                // the value of the node
+        private final SkipNode[] _next;  // next node in each lane
+        private final int[] _span;       // elements each link jumps over
+        private SkipNode _prev;          // previous node in the bottom lane
+
+
+        /**
+         * Constructs a node that is in the given number of lanes.
+         *
+         * @param value the value to be stored in this node
+         * @param level the number of lanes the node is in
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public SkipNode(E value, int level) {
+            _value = value;
+            _next = (SkipNode[]) new SkipLinkedList.SkipNode[level];
+            _span = new int[level];
+            _prev = null;
+        }
+    }
+
+
+    /**
+     * SkipListIterator class implements the Iterator interface by walking
+     * the bottom lane forward, or backward along the previous links.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class SkipListIterator implements Iterator<E> {
+
+        private SkipNode _currentNode;  // node holding the next element
+        private boolean _reverse;       // reverse iteration order
+        private int _expectedModCount;  // tracking list changes
+
+
+        /**
+         * Constructs a new SkipListIterator that starts at the head of the
+         * list, or at the tail if reverse is true.
+         *
+         * @param reverse true if the iterator should start at the tail
+         */
+        public SkipListIterator(boolean reverse) {
+            _reverse = reverse;
+            _currentNode = reverse ? _tail : _head._next[0];
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if this iterator has at least one more element
+         * to deliver in the iteration.
+         *
+         * @return true if this iterator has at least one more element
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public boolean hasNext() {
+
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return _currentNode != null;
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving forward or
+         * backward depending on the type of iterator.
+         *
+         * @return the next element in the iteration
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public E next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            E value = _currentNode._value;
+
+            _currentNode = _reverse ? _currentNode._prev
+                                    : _currentNode._next[0];
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * SpscRingQueue class is a first-in, first-out queue for handing elements
+ * from exactly one producer thread to exactly one consumer thread. Neither
+ * side ever locks, retries or waits on the other, so both are wait-free.
+ *
+ * The elements live in a preallocated circular array whose length is a
+ * power of two. The producer owns the tail sequence and the consumer owns
+ * the head sequence. Each side publishes its sequence with a release store
+ * after touching the array and reads the other side's with an acquire
+ * load, which is all the ordering a single producer and consumer need.
+ * Each sequence is padded onto a cache line of its own, so the two threads
+ * do not slow each other down by writing to the same line, and each side
+ * keeps a private copy of the other side's sequence so it only reads the
+ * shared one when the copy says the queue looks full or empty.
+ *
+ * Calling enqueue from more than one thread, or dequeue from more than one
+ * thread, is not supported. Null elements are not allowed, since dequeue
+ * uses null to report an empty queue.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see RingQueue
+ */
+public class SpscRingQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;  // largest array
+
+    private final Object[] _elements;  // circular array of elements
+    private final int _mask;           // array length minus one
+    private final Sequence _tail;      // next slot to write, producer's
+    private final Sequence _head;      // next slot to read, consumer's
+
+
+    /**
+     * Constructor for a SpscRingQueue with room for at least capacity
+     * elements, rounded up to a power of two.
+     *
+     * @param capacity the number of elements to make room for
+     *
+     * @throws IllegalArgumentException if capacity is not positive or is
+     *         more than 2^30
+     */
+    public SpscRingQueue(int capacity) {
+
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+
+        // round up to the next power of two
+        int length = Integer.highestOneBit(capacity);
+
+        if (length < capacity) {
+            length <<= 1;
+        }
+
+        this._elements = new Object[length];
+        this._mask = length - 1;
+        this._tail = new Sequence();
+        this._head = new Sequence();
+    }
+
+
+    /**
+     * Add an element to the queue. Must only be called by the producer.
+     *
+     * @param element the element to be added
+     * @return true if the element was added, false if the queue is full
+     *
+     * @throws NullPointerException if element is null
+     */
+    public boolean enqueue(E element) {
+
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        boolean added = false;
+        long tail = this._tail.getPlain();
+
+        // only look at the consumer's sequence when the copy says full
+        if (tail - this._tail._cached >= this._elements.length) {
+            this._tail._cached = this._head.getAcquire();
+        }
+
+        if (tail - this._tail._cached < this._elements.length) {
+
+            // write the slot, then publish it to the consumer
+            this._elements[(int) tail & this._mask] = element;
+            this._tail.setRelease(tail + 1);
+            added = true;
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Remove the element at the front of the queue. Must only be called by
+     * the consumer.
+     *
+     * @return the element dequeued, or null if the queue is empty
+     */
+    public E dequeue() {
+
+        E element = null;
+        long head = this._head.getPlain();
+
+        if (available(head, 1) > 0) {
+
+            int slot = (int) head & this._mask;
+
+            // empty the slot, then hand it back to the producer
+            element = elementAt(slot);
+            this._elements[slot] = null;
+            this._head.setRelease(head + 1);
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Remove up to n elements from the front of the queue and hand each one
+     * to consumer, publishing the freed slots to the producer once for the
+     * whole batch. Must only be called by the consumer. If consumer throws,
+     * the elements it accepted before are removed and the one it threw on
+     * stays at the front.
+     *
+     * @param n the most elements to remove
+     * @param consumer receives each removed element
+     * @return the number of elements removed
+     *
+     * @throws IllegalArgumentException if n is negative
+     */
+    public int dequeue(int n, Consumer<? super E> consumer) {
+
+        if (n < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        long head = this._head.getPlain();
+        int count = available(head, n);
+        int delivered = 0;
+
+        try {
+
+            // a slot is only emptied once consumer has accepted its element
+            while (delivered < count) {
+
+                int slot = (int) (head + delivered) & this._mask;
+
+                consumer.accept(elementAt(slot));
+                this._elements[slot] = null;
+                delivered++;
+            }
+
+        } finally {
+
+            // hand the emptied slots back even if consumer threw
+            if (delivered > 0) {
+                this._head.setRelease(head + delivered);
+            }
+        }
+
+        return delivered;
+    }
+
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Must only be called by the consumer.
+     *
+     * @return the element at the front of the queue
+     *
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    public E head() {
+
+        long head = this._head.getPlain();
+
+        if (available(head, 1) == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return elementAt((int) head & this._mask);
+    }
+
+
+    /**
+     * Method to check if the queue is empty
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return depth() == 0;
+    }
+
+
+    /**
+     * Method to get the size of the queue. Called from a thread other than
+     * the producer or consumer, the value may already be out of date.
+     *
+     * @return the size of the queue
+     */
+    public int depth() {
+
+        // read the head first so the tail read after it is never behind it
+        long head = this._head.getAcquire();
+        long tail = this._tail.getAcquire();
+
+        return (int) Math.min(tail - head, this._elements.length);
+    }
+
+
+    /**
+     * Returns the most elements the queue holds at once.
+     *
+     * @return the length of the circular array
+     */
+    public int capacity() {
+        return this._elements.length;
+    }
+
+
+    /**
+     * Returns how many elements, up to max, the consumer can read from
+     * head. Only looks at the producer's sequence when the consumer's copy
+     * of it does not show enough.
+     *
+     * @param head the consumer's sequence
+     * @param max the most elements wanted
+     * @return the number of elements that can be read, at most max
+     */
+    private int available(long head, int max) {
+
+        if (this._head._cached - head < max) {
+            this._head._cached = this._tail.getAcquire();
+        }
+
+        return (int) Math.min(this._head._cached - head, max);
+    }
+
+
+    /**
+     * Returns the element in the given slot.
+     *
+     * @param slot the slot in the array
+     * @return the element in the slot
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) this._elements[slot];
+    }
+
+
+    /**
+     * Cache line of padding in front of a sequence. The fields are split
+     * across three classes because the JVM lays out a superclass's fields
+     * before a subclass's, but may reorder fields within one class.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private static class SequencePadBefore {
+        protected long _p01, _p02, _p03, _p04, _p05, _p06, _p07;
+    }
+
+
+    /**
+     * The sequence itself, and the owner's private copy of the other
+     * side's sequence, which shares the owner's cache line.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private static class SequenceValue extends SequencePadBefore {
+
+        protected static final VarHandle VALUE;  // access to _value
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(
+                    SequenceValue.class, "_value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        protected volatile long _value;  // slots written or read so far
+        protected long _cached;          // owner's copy of the other side
+    }
+
+
+    /**
+     * Sequence class is a counter padded onto a cache line of its own,
+     * written by one thread with release stores and read by the other
+     * with acquire loads.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private static class Sequence extends SequenceValue {
+
+        protected long _p11, _p12, _p13, _p14, _p15, _p16, _p17;
+
+
+        /**
+         * Returns the sequence without any ordering. Only the owner may
+         * use this, since it is the only thread that writes the sequence.
+         *
+         * @return the sequence
+         */
+        public long getPlain() {
+            return (long) VALUE.get(this);
+        }
+
+
+        /**
+         * Returns the sequence, ordered before any later reads.
+         *
+         * @return the sequence
+         */
+        public long getAcquire() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+
+        /**
+         * Sets the sequence, ordered after any earlier writes.
+         *
+         * @param value the new sequence
+         */
+        public void setRelease(long value) {
+            VALUE.setRelease(this, value);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 import java.util.EmptyStackException;
 import java.util.Iterator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * Stack is a class where you can push and pop items. It is a LIFO structure.
@@ -12,16 +14,41 @@ import java.util.NoSuchElementException;
  */
 public class Stack<E> implements Iterable<E> {
 
-    private StackNode _top;     // top of the stack
-    private int _size;          // number of items in the stack
+    private StackNode _top;           // top of the stack
+    private int _size;                // number of items in the stack
+    private int _modCount;            // modification count
+    private StackNode _freeNodes;     // recycled nodes, linked by next
+    private int _freeCount;           // number of recycled nodes
+    private final int _maxFreeNodes;  // most nodes kept for reuse
+    private long _nodesAllocated;     // nodes created with new
+    private long _nodesReused;        // nodes taken from the free list
 
 
     /**
      * Constructor for objects of class Stack.
      */
     public Stack() {
+        this(0);
+    }
+
+
+    /**
+     * Constructor for a Stack that keeps up to maxFreeNodes popped nodes
+     * and reuses them for later pushes instead of allocating new ones.
+     *
+     * @param maxFreeNodes the most popped nodes to keep, 0 to disable
+     *
+     * @throws IllegalArgumentException if maxFreeNodes is negative
+     */
+    public Stack(int maxFreeNodes) {
+
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+
         this._top = null;
         this._size = 0;
+        this._maxFreeNodes = maxFreeNodes;
     }
 
 
@@ -37,8 +64,8 @@ public class Stack<E> implements Iterable<E> {
 
         if (!isEmpty()) {
 
-            // Create a new node to hold the item.
-            StackNode newNode = new StackNode(element);
+            // Create a new node to hold the item, reusing a recycled one.
+            StackNode newNode = obtainNode(element);
 
             // Set the new node's next pointer to the top of the stack.
             newNode.setNext(_top);
@@ -54,7 +81,7 @@ public class Stack<E> implements Iterable<E> {
 
         } else {
 
-            this._top = new StackNode(element);
+            this._top = obtainNode(element);
 
             // Increment the size of the stack.
             this._size = 1;
@@ -63,6 +90,8 @@ public class Stack<E> implements Iterable<E> {
             pushed = true;
         }
 
+        this._modCount++;
+
         return pushed;
     }
 
@@ -96,14 +125,21 @@ public class Stack<E> implements Iterable<E> {
 
         if (!isEmpty()) {
 
+            // The node being popped.
+            StackNode top = this._top;
+
             // Set the popped item to the top of the stack.
-            popped = this._top.getItem();
+            popped = top.getItem();
 
             // Set the top of the stack to the next node.
-            this._top = this._top.getNext();
+            this._top = top.getNext();
 
             // Decrement the size of the stack.
             this._size--;
+            this._modCount++;
+
+            // Hand the node back for reuse.
+            recycleNode(top);
 
         } else {
 
@@ -142,12 +178,115 @@ public class Stack<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Returns the number of nodes this stack has allocated.
+     *
+     * @return the number of nodes created with new
+     */
+    public long nodesAllocated() {
+        return this._nodesAllocated;
+    }
+
+
+    /**
+     * Returns the number of nodes this stack has reused from its free list
+     * instead of allocating.
+     *
+     * @return the number of nodes taken from the free list
+     */
+    public long nodesReused() {
+        return this._nodesReused;
+    }
+
+
     /**
      * Clear the stack. This method does not return any items.
      */
     public void clear() {
         this._top = null;
         this._size = 0;
+        this._modCount++;
+    }
+
+
+    /**
+     * Remove up to max items from the top of the stack, in the order
+     * pop would return them, and hand each one to consumer. This is the
+     * explicit way to empty the stack; iterating over it does not.
+     *
+     * @param consumer receives each removed item
+     * @param max the most items to remove
+     * @return the number of items removed
+     *
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int drainTo(Consumer<? super E> consumer, int max) {
+
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int drained = 0;
+
+        while (drained < max && !isEmpty()) {
+            consumer.accept(pop());
+            drained++;
+        }
+
+        return drained;
+    }
+
+
+    /**
+     * Take a node from the free list, or allocate one if the free list
+     * is empty, and store element in it.
+     *
+     * @param element the element to be stored
+     * @return a node holding element with no next node
+     */
+    private StackNode obtainNode(E element) {
+
+        StackNode node = this._freeNodes;
+
+        if (node == null) {
+
+            // nothing to reuse, allocate a new node
+            node = new StackNode(element);
+            this._nodesAllocated++;
+
+        } else {
+
+            // pop the node off the free list
+            this._freeNodes = node.getNext();
+            this._freeCount--;
+            this._nodesReused++;
+
+            node.setNext(null);
+            node.setItem(element);
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Put a node that has been popped on the free list if there is
+     * room for it.
+     *
+     * @param node the node to be recycled
+     */
+    private void recycleNode(StackNode node) {
+
+        if (this._freeCount < this._maxFreeNodes) {
+
+            // drop the element so the free list does not keep it alive
+            node.setItem(null);
+
+            // push the node onto the free list
+            node.setNext(this._freeNodes);
+            this._freeNodes = node;
+            this._freeCount++;
+        }
     }
 
 
@@ -162,7 +301,8 @@ public class Stack<E> implements Iterable<E> {
 
 
     /**
-     * Returns an iterator for the stack.
+     * Returns an iterator for the stack that walks from the top down
+     * without popping anything.
      *
      * @return An iterator for the stack.
      */
@@ -203,6 +343,16 @@ public class Stack<E> implements Iterable<E> {
         }
 
 
+        /**
+         * Sets the item stored in the node.
+         *
+         * @param item the item stored in the node
+         */
+        public void setItem(E item) {
+            this._item = item;
+        }
+
+
         /**
          * Returns the next node in the stack.
          *
@@ -225,7 +375,8 @@ public class Stack<E> implements Iterable<E> {
 
 
     /**
-     * StackIterator is an iterator for the Stack class.
+     * StackIterator is an iterator for the Stack class. It follows the
+     * next references from the top and leaves the stack unchanged.
      *
      * @author hzhu20@georgefox.edu
      * @version 1.0
@@ -233,15 +384,34 @@ public class Stack<E> implements Iterable<E> {
      */
     private class StackIterator implements Iterator<E> {
 
+        private StackNode _current;     // node holding the next item
+        private int _expectedModCount;  // tracking stack changes
+
+
+        /**
+         * Constructs an iterator that starts at the top of the stack.
+         */
+        public StackIterator() {
+            this._current = _top;
+            this._expectedModCount = _modCount;
+        }
+
+
         /**
          * Returns true if there is another item in the stack.
          *
          * @return True if there is another item in the stack.
          *
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            return !isEmpty();
+
+            if (this._expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return this._current != null;
         }
 
 
@@ -251,25 +421,18 @@ public class Stack<E> implements Iterable<E> {
          * @return The next item in the stack.
          *
          * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
          */
         @Override
         public E next() {
 
-            // Checks if the stack is empty
-            if (_top == null) {
+            if (!hasNext()) {
                 throw new NoSuchElementException();
             }
 
-            E item = null;
-
-            if (hasNext()) {
-
-                // gets the item at the current node
-                item = _top.getItem();
-
-                // pops the item off the stack to get the next item on top
-                pop();
-            }
+            // gets the item at the current node and moves down the stack
+            E item = this._current.getItem();
+            this._current = this._current.getNext();
 
             return item;
         }
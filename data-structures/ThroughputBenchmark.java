@@ -0,0 +1,184 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Small harness for the concurrent collection benchmarks. It runs one
+ * operation from a number of threads at once against a fresh collection
+ * and reports how many operations per millisecond the threads completed
+ * together.
+ *
+ * Every measurement is repeated, and the first rounds only warm up the JIT
+ * compiler. The best of the remaining rounds is reported, since slower
+ * rounds mostly measure interference from the rest of the machine.
+ *
+ * @author hzhu20@georgefox.edu
+ */
+class ThroughputBenchmark
+{
+    // Constants
+
+    public static final int[] THREAD_COUNTS = {1, 4, 16, 64}; // threads to run
+    private static final int WARMUP_ROUNDS = 3; // rounds not measured
+    private static final int MEASURED_ROUNDS = 5; // rounds measured
+
+
+    /**
+     * Operation run by the benchmark threads against a collection.
+     *
+     * @param <C> the type of collection operated on
+     */
+    public interface Operation<C>
+    {
+        /**
+         * Performs one operation.
+         *
+         * @param collection the collection operated on
+         * @param thread the number of the running thread, from 0
+         * @param i the number of the operation within its thread, from 0
+         */
+        void run(C collection, int thread, int i);
+    }
+
+
+    /**
+     * Prevents instances, everything is static.
+     */
+    private ThroughputBenchmark()
+    {
+    }
+
+
+    /**
+     * Measures the throughput of an operation at the given thread count. The
+     * total number of operations is split evenly across the threads.
+     *
+     * @param <C> the type of collection operated on
+     * @param threads the number of threads to run at once
+     * @param operations the total number of operations to run
+     * @param factory creates a fresh collection for every round
+     * @param operation the operation to run
+     * @return the best throughput measured, in operations per millisecond
+     * @throws InterruptedException if interrupted while waiting for the
+     *         threads
+     */
+    public static <C> double measure(int threads, int operations,
+                                     Supplier<C> factory, Operation<C> operation)
+        throws InterruptedException
+    {
+        int perThread = operations / threads;
+        double best = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++)
+        {
+            long nanos = runRound(threads, perThread, factory.get(), operation);
+
+            if (round >= WARMUP_ROUNDS)
+            {
+                best = Math.max(best, perThread * (double) threads * 1e6 / nanos);
+            }
+        }
+
+        return best;
+    }
+
+
+    /**
+     * Prints a table comparing two implementations at every thread count.
+     *
+     * @param <C> the type of the first collection
+     * @param <D> the type of the second collection
+     * @param title the title of the table
+     * @param operations the total number of operations per round
+     * @param firstName the column heading of the first implementation
+     * @param first creates the first collection
+     * @param firstOperation the operation run against the first collection
+     * @param secondName the column heading of the second implementation
+     * @param second creates the second collection
+     * @param secondOperation the operation run against the second collection
+     * @throws InterruptedException if interrupted while waiting for the
+     *         threads
+     */
+    public static <C, D> void compare(String title, int operations,
+                                      String firstName, Supplier<C> first,
+                                      Operation<C> firstOperation,
+                                      String secondName, Supplier<D> second,
+                                      Operation<D> secondOperation)
+        throws InterruptedException
+    {
+        System.out.println(title + " (operations per millisecond)");
+        System.out.println(String.format("%8s %14s %14s",
+                                         "threads", firstName, secondName));
+
+        for (int threads : THREAD_COUNTS)
+        {
+            double a = measure(threads, operations, first, firstOperation);
+            double b = measure(threads, operations, second, secondOperation);
+
+            System.out.println(String.format("%8d %14.0f %14.0f",
+                                             threads, a, b));
+        }
+
+        System.out.println();
+    }
+
+
+    /**
+     * Runs one round: starts every thread, releases them together, and
+     * times how long it takes until the last one finishes.
+     *
+     * @param <C> the type of collection operated on
+     * @param threads the number of threads to run at once
+     * @param perThread the number of operations each thread runs
+     * @param collection the collection operated on
+     * @param operation the operation to run
+     * @return the elapsed time in nanoseconds
+     * @throws InterruptedException if interrupted while waiting for the
+     *         threads
+     */
+    private static <C> long runRound(int threads, int perThread, C collection,
+                                     Operation<C> operation)
+        throws InterruptedException
+    {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++)
+        {
+            int thread = t;
+
+            workers[t] = new Thread(() ->
+            {
+                ready.countDown();
+
+                try
+                {
+                    start.await();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                for (int i = 0; i < perThread; i++)
+                {
+                    operation.run(collection, thread, i);
+                }
+            });
+            workers[t].start();
+        }
+
+        ready.await();
+
+        long begin = System.nanoTime();
+        start.countDown();
+
+        for (Thread worker : workers)
+        {
+            worker.join();
+        }
+
+        return System.nanoTime() - begin;
+    }
+}
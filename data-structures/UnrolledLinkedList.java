@@ -0,0 +1,600 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Class UnrolledLinkedList of type E is a doubly-linked list whose nodes
+ * each hold a small array of elements instead of a single element. Walking
+ * the list touches one node per block of elements, so traversal is far more
+ * cache friendly than LinkedList, and indexed access skips whole blocks at
+ * a time.
+ *
+ * The public API matches LinkedList. Nodes are split when an insert finds
+ * them full and merged with their neighbour when a removal leaves them less
+ * than half full, so every node but the last stays at least half full.
+ *
+ * @author hzhu20@georgefox.edu
+ * @version 1.0
+ * @see LinkedList
+ */
+public class UnrolledLinkedList<E> implements Iterable<E> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 64;  // elements per node
+
+    private final int _nodeCapacity;  // elements each node can hold
+    private UnrolledNode _head;       // first node of the list
+    private UnrolledNode _tail;       // last node of the list
+    private int _size;                // number of elements
+    private int _modCount;            // modification count
+    private int _seekOffset;          // offset within the node found by seek
+
+
+    /**
+     * Constructs an empty list with 64 elements per node.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty list whose nodes each hold nodeCapacity elements.
+     *
+     * @param nodeCapacity the number of elements each node can hold
+     *
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+
+        // a node must be splittable into two non-empty halves
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException();
+        }
+
+        _nodeCapacity = nodeCapacity;
+        _head = null;
+        _tail = null;
+        _size = 0;
+    }
+
+
+    /**
+     * Append an element at the tail of the list.
+     *
+     * @param element the element to be appended
+     * @return true if the element is added
+     */
+    public boolean add(E element) {
+
+        // start a new node if there is no tail or the tail is full
+        if (_tail == null || _tail._count == _nodeCapacity) {
+            linkAfter(_tail, new UnrolledNode());
+        }
+
+        // store the element in the next free slot of the tail
+        _tail._elements[_tail._count++] = element;
+
+        // update the size and modification count
+        _size++;
+        _modCount++;
+
+        return true;
+    }
+
+
+    /**
+     * Insert an element into the list at the specified index.
+     *
+     * @param index the index at which the element is to be inserted
+     * @param element the element to be inserted
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public void add(int index, E element) {
+
+        // the index may be anywhere from the head up to just past the tail
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (index == this.size()) {
+
+            // appending never needs to shift anything
+            add(element);
+
+        } else {
+
+            // find the node holding the element currently at the index
+            UnrolledNode node = seek(index);
+            int offset = _seekOffset;
+
+            // a full node is split in half, moving the upper half to a new
+            // node that follows it
+            if (node._count == _nodeCapacity) {
+
+                UnrolledNode upper = new UnrolledNode();
+                int half = _nodeCapacity / 2;
+
+                upper._count = node._count - half;
+                System.arraycopy(node._elements, half, upper._elements, 0,
+                                 upper._count);
+                clearSlots(node, half, node._count);
+                node._count = half;
+
+                linkAfter(node, upper);
+
+                // the insertion point may now be in the upper half
+                if (offset > half) {
+                    node = upper;
+                    offset -= half;
+                }
+            }
+
+            // shift the later elements of the node up and insert
+            System.arraycopy(node._elements, offset, node._elements,
+                             offset + 1, node._count - offset);
+            node._elements[offset] = element;
+            node._count++;
+
+            // update the size and modification count
+            _size++;
+            _modCount++;
+        }
+    }
+
+
+    /**
+     * Remove the element at the specified index.
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E remove(int index) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        // find the node holding the element
+        UnrolledNode node = seek(index);
+        int offset = _seekOffset;
+        E element = node.get(offset);
+
+        // shift the later elements of the node down over the removed one
+        System.arraycopy(node._elements, offset + 1, node._elements, offset,
+                         node._count - offset - 1);
+        node._elements[--node._count] = null;
+
+        if (node._count == 0) {
+
+            // an empty node is dropped from the list
+            unlink(node);
+
+        } else if (node._count < _nodeCapacity / 2 && node._next != null) {
+
+            UnrolledNode next = node._next;
+
+            if (node._count + next._count <= _nodeCapacity) {
+
+                // the next node fits entirely, so absorb it
+                System.arraycopy(next._elements, 0, node._elements,
+                                 node._count, next._count);
+                node._count += next._count;
+                unlink(next);
+
+            } else {
+
+                // borrow just enough from the next node to be half full
+                int borrow = _nodeCapacity / 2 - node._count;
+
+                System.arraycopy(next._elements, 0, node._elements,
+                                 node._count, borrow);
+                System.arraycopy(next._elements, borrow, next._elements, 0,
+                                 next._count - borrow);
+                clearSlots(next, next._count - borrow, next._count);
+                node._count += borrow;
+                next._count -= borrow;
+            }
+        }
+
+        // update the size and modification count
+        _size--;
+        _modCount++;
+
+        return element;
+    }
+
+
+    /**
+     * Get the element at the specified index.
+     *
+     * @param index the index of the element to be returned
+     * @return the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E get(int index) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        UnrolledNode node = seek(index);
+
+        return node.get(_seekOffset);
+    }
+
+
+    /**
+     * Set the element at the specified index.
+     *
+     * @param index the index of the element to be set
+     * @param element the element to be set
+     * @return the element that was replaced
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    public E set(int index, E element) {
+
+        // if index is out of bounds, throw exception
+        checkRange(index);
+
+        UnrolledNode node = seek(index);
+        E oldElement = node.get(_seekOffset);
+
+        node._elements[_seekOffset] = element;
+
+        return oldElement;
+    }
+
+
+    /**
+     * Clears the list of all elements, ensuring head and tail are null,
+     * reseting the size to 0.
+     */
+    public void clear() {
+
+        // set head and tail to null
+        _head = null;
+        _tail = null;
+
+        // reset the size and update the modification count
+        _size = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return this._size;
+    }
+
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+
+    /**
+     * Returns the index of the first occurrence of the element, or -1 if
+     * this list does not contain the element.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of the element in this
+     *         list, or -1 if this list does not contain the element
+     */
+    public int indexOf(E element) {
+
+        // index is negative if element is not found
+        int index = -1;
+
+        // index of the first element of the current node
+        int base = 0;
+
+        for (UnrolledNode node = _head; node != null && index == -1;
+             node = node._next) {
+
+            // scan the node's block of elements
+            for (int i = 0; i < node._count; i++) {
+
+                Object value = node._elements[i];
+
+                if (element == null ? value == null : element.equals(value)) {
+                    index = base + i;
+                    break;
+                }
+            }
+
+            base += node._count;
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Creates a new UnrolledListIterator that iterates over this list.
+     *
+     * @return a new UnrolledListIterator that iterates over this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledListIterator(false);
+    }
+
+
+    /**
+     * Creates a new UnrolledListIterator that iterates over this list in
+     * reverse.
+     *
+     * @return a new UnrolledListIterator that iterates over this list in
+     *         reverse
+     */
+    public Iterator<E> reverseIterator() {
+        return new UnrolledListIterator(true);
+    }
+
+
+    /**
+     * Checks the index to see if index is less than 0 or greater than
+     * or equal to the size.
+     *
+     * @param index the index to be checked
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    private void checkRange(int index) {
+
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    /**
+     * Find the node holding the element at index, skipping whole nodes at
+     * a time from whichever end is closer. The offset of the element within
+     * the node is left in _seekOffset.
+     *
+     * @param index the index to be found, which must be in range
+     * @return the node holding the element at the index
+     */
+    private UnrolledNode seek(int index) {
+
+        UnrolledNode node;
+
+        if (index < _size / 2) {
+
+            // skip forward from the head, one node at a time
+            node = _head;
+
+            while (index >= node._count) {
+                index -= node._count;
+                node = node._next;
+            }
+
+            _seekOffset = index;
+
+        } else {
+
+            // skip backward from the tail, counting from the end
+            int fromEnd = _size - 1 - index;
+            node = _tail;
+
+            while (fromEnd >= node._count) {
+                fromEnd -= node._count;
+                node = node._prev;
+            }
+
+            _seekOffset = node._count - 1 - fromEnd;
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Link a new node after the given node, or at the head if the given
+     * node is null.
+     *
+     * @param node the node to link after
+     * @param newNode the node to be linked
+     */
+    private void linkAfter(UnrolledNode node, UnrolledNode newNode) {
+
+        UnrolledNode next = (node == null) ? _head : node._next;
+
+        newNode._prev = node;
+        newNode._next = next;
+
+        if (node == null) {
+            _head = newNode;
+        } else {
+            node._next = newNode;
+        }
+
+        if (next == null) {
+            _tail = newNode;
+        } else {
+            next._prev = newNode;
+        }
+    }
+
+
+    /**
+     * Unlink the given node from the list.
+     *
+     * @param node the node to be removed
+     */
+    private void unlink(UnrolledNode node) {
+
+        if (node._prev == null) {
+            _head = node._next;
+        } else {
+            node._prev._next = node._next;
+        }
+
+        if (node._next == null) {
+            _tail = node._prev;
+        } else {
+            node._next._prev = node._prev;
+        }
+
+        node._next = null;
+        node._prev = null;
+    }
+
+
+    /**
+     * Null out a range of slots in a node so the elements can be collected.
+     *
+     * @param node the node to clear
+     * @param from the first slot to clear
+     * @param to the slot after the last one to clear
+     */
+    private void clearSlots(UnrolledNode node, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            node._elements[i] = null;
+        }
+    }
+
+
+    /**
+     * UnrolledNode class that stores a block of elements along with the
+     * next and previous nodes.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class UnrolledNode {
+
+        private final Object[] _elements;  // block of elements
+        private int _count;                // number of slots in use
+        private UnrolledNode _next;        // the next node in the list
+        private UnrolledNode _prev;        // the previous node in the list
+
+
+        /**
+         * Constructs an empty node with room for a full block of elements.
+         */
+        public UnrolledNode() {
+            _elements = new Object[_nodeCapacity];
+            _count = 0;
+        }
+
+
+        /**
+         * Returns the element at the given offset in this node.
+         *
+         * @param offset the offset of the element
+         * @return the element at the offset
+         */
+        @SuppressWarnings("unchecked")
+        public E get(int offset) {
+            return (E) _elements[offset];
+        }
+    }
+
+
+    /**
+     * UnrolledListIterator class implements the Iterator interface and
+     * walks a node's block of elements before moving to the next node.
+     *
+     * @author hzhu20@georgefox.edu
+     * @version 1.0
+     */
+    private class UnrolledListIterator implements Iterator<E> {
+
+        private UnrolledNode _currentNode;  // node holding the next element
+        private int _offset;                // offset of the next element
+        private int _remaining;             // elements left to deliver
+        private boolean _reverse;           // reverse iteration order
+        private int _expectedModCount;      // tracking list changes
+
+
+        /**
+         * Constructs a new UnrolledListIterator that starts at the head of
+         * the list, or at the tail if reverse is true.
+         *
+         * @param reverse true if the iterator should start at the tail
+         */
+        public UnrolledListIterator(boolean reverse) {
+
+            _reverse = reverse;
+            _remaining = _size;
+            _currentNode = reverse ? _tail : _head;
+            _offset = (reverse && _tail != null) ? _tail._count - 1 : 0;
+
+            // set the expected mod count to the current mod count
+            _expectedModCount = _modCount;
+        }
+
+
+        /**
+         * Returns true if this iterator has at least one more element
+         * to deliver in the iteration.
+         *
+         * @return true if this iterator has at least one more element
+         *
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public boolean hasNext() {
+
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return _remaining > 0;
+        }
+
+
+        /**
+         * Returns the next element in the iteration, moving forward or
+         * backward depending on the type of iterator.
+         *
+         * @return the next element in the iteration
+         *
+         * @throws NoSuchElementException {@inheritDoc}
+         * @throws ConcurrentModificationException {@inheritDoc}
+         */
+        public E next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            E value = _currentNode.get(_offset);
+
+            if (_reverse) {
+
+                // step back, moving to the end of the previous node if needed
+                if (--_offset < 0 && _currentNode._prev != null) {
+                    _currentNode = _currentNode._prev;
+                    _offset = _currentNode._count - 1;
+                }
+
+            } else {
+
+                // step forward, moving to the next node if needed
+                if (++_offset == _currentNode._count) {
+                    _currentNode = _currentNode._next;
+                    _offset = 0;
+                }
+            }
+
+            _remaining--;
+
+            return value;
+        }
+    }
+}